@@ -0,0 +1,13 @@
+-- Migration to add the JWT token version to users
+-- SAFE VERSION: Uses IF NOT EXISTS checks to allow idempotent re-runs
+
+USE jobportal;
+
+-- token_version: embedded in issued tokens; incrementing it revokes every earlier token of the user
+SET @col_exists = 0;
+SELECT COUNT(*) INTO @col_exists FROM information_schema.COLUMNS
+  WHERE TABLE_SCHEMA = 'jobportal' AND TABLE_NAME = 'users' AND COLUMN_NAME = 'token_version';
+SET @sql = IF(@col_exists = 0,
+  'ALTER TABLE users ADD COLUMN token_version INT NOT NULL DEFAULT 0 AFTER is_active',
+  'SELECT ''token_version already exists'' AS message');
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -0,0 +1,131 @@
+package com.jobportal.api;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.jobportal.dto.SavedJobResponse;
+import com.jobportal.entity.JobCompany;
+import com.jobportal.entity.JobLocation;
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.entity.JobSeekerApply;
+import com.jobportal.entity.JobSeekerProfile;
+import com.jobportal.entity.Users;
+
+/**
+ * Entity graphs and rows shaped like the ones the controllers map: jobs share a small set of
+ * recruiters, locations and companies, as a page read from the database does
+ */
+final class ResponseFixtures {
+
+    private static final int RECRUITERS = 50;
+    private static final int LOCATIONS = 40;
+    private static final int COMPANIES = 60;
+    private static final JobSeekerApply.ApplicationStatus[] STATUSES = JobSeekerApply.ApplicationStatus.values();
+
+    // About the length of a typical posting once the editor's markup is included
+    private static final String DESCRIPTION = "<p>We are looking for an engineer to join the platform team and "
+            + "help us scale the services behind our job search. You will own features end to end, from design "
+            + "through rollout, and work closely with product and design.</p><ul><li>5+ years building backend "
+            + "services in Java</li><li>Experience with Spring Boot, JPA and MySQL</li><li>Comfortable with "
+            + "caching, profiling and production debugging</li></ul><p>Hybrid, with two days a week in the "
+            + "office. Competitive salary, equity and benefits.</p>";
+
+    private ResponseFixtures() {
+    }
+
+    static List<JobPostActivity> jobs(int count) {
+        List<Users> recruiters = new ArrayList<>(RECRUITERS);
+        for (int i = 0; i < RECRUITERS; i++) {
+            recruiters.add(user(i + 1, "Recruiter", "Number" + i));
+        }
+        List<JobLocation> locations = new ArrayList<>(LOCATIONS);
+        for (int i = 0; i < LOCATIONS; i++) {
+            JobLocation location = new JobLocation();
+            location.setId(i + 1);
+            location.setCity("City " + i);
+            location.setState("State " + i % 10);
+            location.setCountry(i % 2 == 0 ? "United States" : "India");
+            locations.add(location);
+        }
+        List<JobCompany> companies = new ArrayList<>(COMPANIES);
+        for (int i = 0; i < COMPANIES; i++) {
+            JobCompany company = new JobCompany();
+            company.setId(i + 1);
+            company.setName("Company " + i);
+            company.setWebsite("https://company" + i + ".example.com");
+            companies.add(company);
+        }
+
+        long now = System.currentTimeMillis();
+        List<JobPostActivity> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JobPostActivity job = new JobPostActivity();
+            job.setJobPostId(i + 1);
+            job.setJobTitle("Senior Software Engineer " + i);
+            job.setDescriptionOfJob(DESCRIPTION);
+            job.setJobType(i % 3 == 0 ? "Part-Time" : "Full-Time");
+            job.setSalary("$" + (80 + i % 70) + ",000");
+            job.setRemote(i % 4 == 0 ? "Remote-Only" : "Office-Only");
+            job.setPostedDate(new Date(now - i * 60_000L));
+            job.setPostedById(recruiters.get(i % RECRUITERS));
+            job.setJobLocationId(locations.get(i % LOCATIONS));
+            job.setJobCompanyId(companies.get(i % COMPANIES));
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    /**
+     * One application per job, from applicants spread across a tenth as many seekers
+     */
+    static List<JobSeekerApply> applications(List<JobPostActivity> jobs) {
+        int seekerCount = Math.max(1, jobs.size() / 10);
+        List<JobSeekerProfile> seekers = new ArrayList<>(seekerCount);
+        for (int i = 0; i < seekerCount; i++) {
+            Users user = user(RECRUITERS + i + 1, "Seeker", "Number" + i);
+            JobSeekerProfile seeker = new JobSeekerProfile();
+            seeker.setUserAccountId(user.getUserId());
+            seeker.setUserId(user);
+            seeker.setFirstName(user.getFirstName());
+            seeker.setLastName(user.getLastName());
+            seekers.add(seeker);
+        }
+
+        List<JobSeekerApply> applications = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            JobSeekerApply application = new JobSeekerApply(i + 1, seekers.get(i % seekerCount), jobs.get(i),
+                    jobs.get(i).getPostedDate(), "I would love to join your team.");
+            application.setStatus(STATUSES[i % STATUSES.length]);
+            application.setResumePath("resumes/" + (i % seekerCount) + ".pdf");
+            applications.add(application);
+        }
+        return applications;
+    }
+
+    /**
+     * Saved-job rows as {@code JobSeekerSaveRepository.findSavedJobs} returns them, one per job
+     */
+    static List<SavedJobResponse> savedJobs(List<JobPostActivity> jobs) {
+        List<SavedJobResponse> saved = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            JobPostActivity job = jobs.get(i);
+            Users recruiter = job.getPostedById();
+            JobLocation location = job.getJobLocationId();
+            saved.add(new SavedJobResponse(i + 1, job.getJobPostId(), job.getJobTitle(), job.getDescriptionOfJob(),
+                    job.getJobType(), job.getSalary(), job.getRemote(), job.getPostedDate(), recruiter.getUserId(),
+                    recruiter.getFirstName(), recruiter.getLastName(), recruiter.getEmail(), location.getId(),
+                    location.getCity(), location.getCountry(), job.getJobCompanyId().getName(), i % 3 == 0));
+        }
+        return saved;
+    }
+
+    private static Users user(int id, String firstName, String lastName) {
+        Users user = new Users();
+        user.setUserId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(firstName.toLowerCase() + id + "@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobportal.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.SavedJobResponse;
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.entity.JobSeekerApply;
+
+/**
+ * Cost of mapping a page of entities or rows to the API's response objects, per page. Run with
+ * {@code -prof gc} (the profile's default) to see the allocation rate and bytes per page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<JobPostActivity> jobs;
+    private List<JobSeekerApply> applications;
+    private List<SavedJobResponse> savedJobs;
+
+    @Setup
+    public void setUp() {
+        jobs = ResponseFixtures.jobs(size);
+        applications = ResponseFixtures.applications(jobs);
+        savedJobs = ResponseFixtures.savedJobs(jobs);
+    }
+
+    @Benchmark
+    public List<JobResponse> jobResponses() {
+        List<JobResponse> responses = new ArrayList<>(jobs.size());
+        for (JobPostActivity job : jobs) {
+            responses.add(JobsRestController.convertToJobResponse(job));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<JobApplicationRestController.ApplicationResponse> applicationResponses() {
+        List<JobApplicationRestController.ApplicationResponse> responses = new ArrayList<>(applications.size());
+        for (JobSeekerApply application : applications) {
+            responses.add(JobApplicationRestController.ApplicationResponse.fromEntity(application));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> savedJobResponses() {
+        List<Map<String, Object>> responses = new ArrayList<>(savedJobs.size());
+        for (SavedJobResponse savedJob : savedJobs) {
+            responses.add(SavedJobsRestController.convertSavedJobToResponse(savedJob));
+        }
+        return responses;
+    }
+}
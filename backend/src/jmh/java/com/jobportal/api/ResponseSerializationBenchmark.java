@@ -0,0 +1,69 @@
+package com.jobportal.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jobportal.dto.ApiResponse;
+import com.jobportal.dto.JobResponse;
+import com.jobportal.entity.JobPostActivity;
+
+/**
+ * Cost of writing an {@code ApiResponse<List<JobResponse>>} body, as the job list endpoints return it.
+ *
+ * The mapper is configured like Spring Boot's and writes to a discarding stream, as the message
+ * converter writes straight to the response, so the GC profiler's figures are Jackson's own allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<JobResponse>> body;
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(new TypeReference<ApiResponse<List<JobResponse>>>() {})
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        List<JobResponse> jobs = new ArrayList<>(size);
+        for (JobPostActivity job : ResponseFixtures.jobs(size)) {
+            jobs.add(JobResponse.of(job));
+        }
+        body = new ApiResponse<>(true, "Jobs retrieved successfully", jobs);
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        writer.writeValue(out, body);
+    }
+}
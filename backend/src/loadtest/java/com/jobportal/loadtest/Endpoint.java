@@ -0,0 +1,24 @@
+package com.jobportal.loadtest;
+
+/**
+ * The request types in the traffic mix; the key names the weight property ({@code loadtest.mix.<key>}),
+ * the histogram file and the summary entry
+ */
+enum Endpoint {
+    SEARCH("search"),
+    JOB_DETAIL("job-detail"),
+    LOGIN("login"),
+    APPLY("apply"),
+    SAVE("save"),
+    RECRUITER_APPLICATIONS("recruiter-applications");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobportal.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies (microseconds, 3 significant digits) and outcomes of one endpoint's requests, recorded
+ * from any number of threads
+ */
+final class EndpointStats {
+
+    // Status recorded for a request that failed without a response (connection refused, timeout)
+    static final int NO_RESPONSE = 0;
+
+    private final ConcurrentHistogram latency = new ConcurrentHistogram(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(int status, long latencyNanos) {
+        latency.recordValue(Math.max(1, latencyNanos / 1_000));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * An open-model request that was not sent because too many were already outstanding
+     */
+    void dropped() {
+        dropped.increment();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    long requests() {
+        return latency.getTotalCount();
+    }
+
+    long dropCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 409s are expected (applying to or saving a job twice) and are not errors
+     */
+    long successes() {
+        return count(200, 299);
+    }
+
+    long conflicts() {
+        return count(409, 409);
+    }
+
+    long errors() {
+        return requests() - successes() - conflicts();
+    }
+
+    Map<String, Long> statusCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status == NO_RESPONSE ? "none" : status.toString(), count.sum()));
+        return counts;
+    }
+
+    private long count(int from, int to) {
+        long count = 0;
+        for (Map.Entry<Integer, LongAdder> entry : statuses.entrySet()) {
+            if (entry.getKey() >= from && entry.getKey() <= to) {
+                count += entry.getValue().sum();
+            }
+        }
+        return count;
+    }
+}
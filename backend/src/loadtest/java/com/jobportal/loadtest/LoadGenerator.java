@@ -0,0 +1,101 @@
+package com.jobportal.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the traffic mix for a fixed time, in one of two models:
+ *
+ * Closed: {@code users} virtual users, each sending its next request when the previous one completes
+ * (after the think time). Throughput falls as the server slows, so this measures capacity.
+ *
+ * Open: requests start on a fixed schedule of {@code rate} per second whatever the response times, and
+ * latency is measured from each request's scheduled start, so time spent waiting for a send slot is
+ * counted rather than hidden (coordinated omission). Requests beyond {@code maxInFlight} outstanding
+ * are dropped and counted.
+ */
+final class LoadGenerator {
+
+    private final LoadTestOptions options;
+    private final LoadTestClient client;
+
+    LoadGenerator(LoadTestOptions options, LoadTestClient client) {
+        this.options = options;
+        this.client = client;
+    }
+
+    /**
+     * Run for the given time; each run draws the same request sequence for the same seed
+     */
+    Map<Endpoint, EndpointStats> run(int seconds, long seed) {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : options.mix().keySet()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        if (options.open()) {
+            runOpen(stats, deadline, seed);
+        } else {
+            runClosed(stats, deadline, seed);
+        }
+        return stats;
+    }
+
+    private void runClosed(Map<Endpoint, EndpointStats> stats, long deadline, long seed) {
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < options.users(); user++) {
+                SplittableRandom random = new SplittableRandom(seed + user);
+                users.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Endpoint endpoint = options.next(random);
+                        long start = System.nanoTime();
+                        int status = client.send(endpoint, random);
+                        stats.get(endpoint).record(status, System.nanoTime() - start);
+                        if (options.thinkMs() > 0) {
+                            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(options.thinkMs()));
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private void runOpen(Map<Endpoint, EndpointStats> stats, long deadline, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        double interval = TimeUnit.SECONDS.toNanos(1) / (double) options.rate();
+        long start = System.nanoTime();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long sent = 0; ; sent++) {
+                long scheduled = start + (long) (sent * interval);
+                if (scheduled >= deadline) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = options.next(random);
+                SplittableRandom requestRandom = random.split();
+                if (!inFlight.tryAcquire()) {
+                    stats.get(endpoint).dropped();
+                    continue;
+                }
+                requests.execute(() -> {
+                    try {
+                        int status = client.send(endpoint, requestRandom);
+                        stats.get(endpoint).record(status, System.nanoTime() - scheduled);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+}
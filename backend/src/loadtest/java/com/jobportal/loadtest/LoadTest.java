@@ -0,0 +1,62 @@
+package com.jobportal.loadtest;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.jobportal.JobPortalApplication;
+
+/**
+ * End-to-end load test: starts the app with the {@code loadtest} profile (in-memory H2, seeded by
+ * {@link LoadTestDataSeeder}) on a random port, logs in a pool of sessions, drives the configured
+ * traffic mix through a warm-up and then a measured run, and writes the results with
+ * {@link LoadTestReport}.
+ *
+ * Run with {@code mvn -Ploadtest test-compile exec:exec@loadtest}; arguments are passed to Spring, so
+ * any {@code --loadtest.*} or app property can be overridden on the command line.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // A devtools restart would start the app a second time in another class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JobPortalApplication.class,
+                LoadTestDataSeeder.class)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            LoadTestOptions options = LoadTestOptions.from(context.getEnvironment());
+            LoadTestDataSeeder.Dataset dataset = context.getBean(LoadTestDataSeeder.class).getDataset();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            LoadTestClient client = new LoadTestClient(URI.create("http://localhost:" + port), dataset);
+            System.out.printf("Opening %d seeker and %d recruiter sessions%n", options.seekerSessions(),
+                    options.recruiterSessions());
+            client.openSessions(options.seekerSessions(), options.recruiterSessions());
+
+            LoadGenerator generator = new LoadGenerator(options, client);
+            System.out.printf("Warming up for %ds%n", options.warmupSeconds());
+            // A different seed, so the measured run does not replay requests the warm-up already cached
+            generator.run(options.warmupSeconds(), ~options.seed());
+
+            System.out.printf("Measuring for %ds (%s model)%n", options.durationSeconds(),
+                    options.open() ? "open" : "closed");
+            long start = System.nanoTime();
+            Map<Endpoint, EndpointStats> stats = generator.run(options.durationSeconds(), options.seed());
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            new LoadTestReport().write(options.output(), options, dataset, stats, seconds);
+            System.out.printf("%nHistograms and summary.json written to %s%n", options.output().toAbsolutePath());
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,173 @@
+package com.jobportal.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Sends one request of each {@link Endpoint} type against the seeded dataset. Authenticated requests
+ * use a pool of sessions logged in up front, so only the {@code login} endpoint pays for BCrypt.
+ */
+final class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // Concurrent logins while opening sessions; more would only queue behind the hashing pool
+    private static final int LOGIN_CONCURRENCY = 8;
+
+    private final URI baseUri;
+    private final LoadTestDataSeeder.Dataset dataset;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String[] seekerTokens = new String[0];
+    private String[] recruiterTokens = new String[0];
+
+    LoadTestClient(URI baseUri, LoadTestDataSeeder.Dataset dataset) {
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Log in the first {@code seekers} seekers and {@code recruiters} recruiters (capped at the dataset's
+     * counts) and keep their tokens for authenticated requests
+     */
+    void openSessions(int seekers, int recruiters) throws Exception {
+        String[] seekerSessions = new String[Math.min(seekers, dataset.seekers())];
+        String[] recruiterSessions = new String[Math.min(recruiters, dataset.recruiters())];
+        Semaphore permits = new Semaphore(LOGIN_CONCURRENCY);
+        List<Future<?>> logins = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < seekerSessions.length; i++) {
+                int index = i;
+                logins.add(executor.submit(() -> seekerSessions[index] = logIn(dataset.recruiters() + 1 + index, permits)));
+            }
+            for (int i = 0; i < recruiterSessions.length; i++) {
+                int index = i;
+                logins.add(executor.submit(() -> recruiterSessions[index] = logIn(1 + index, permits)));
+            }
+            for (Future<?> login : logins) {
+                login.get();
+            }
+        }
+        seekerTokens = seekerSessions;
+        recruiterTokens = recruiterSessions;
+    }
+
+    /**
+     * Send one request; returns its status, or {@link EndpointStats#NO_RESPONSE} if none came back
+     */
+    int send(Endpoint endpoint, SplittableRandom random) {
+        try {
+            return httpClient.send(request(endpoint, random), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return EndpointStats.NO_RESPONSE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EndpointStats.NO_RESPONSE;
+        }
+    }
+
+    private HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        switch (endpoint) {
+            case SEARCH: {
+                String role = LoadTestDataSeeder.ROLES[random.nextInt(LoadTestDataSeeder.ROLES.length)];
+                String query = "job=" + encode(role) + "&size=20";
+                if (random.nextInt(10) < 3) {
+                    String[] city = LoadTestDataSeeder.CITIES[random.nextInt(LoadTestDataSeeder.CITIES.length)];
+                    query += "&location=" + encode(city[0]);
+                }
+                return get("/api/jobs/search?" + query, null);
+            }
+            case JOB_DETAIL:
+                return get("/api/jobs/" + dataset.popularJob(random), null);
+            case LOGIN:
+                return post("/api/auth/login", null, credentials(dataset.randomSeeker(random)));
+            case APPLY:
+                return post("/api/applications/job/" + dataset.popularJob(random) + "/apply", pick(seekerTokens, random),
+                        "{\"coverLetter\":\"I am excited to apply for this role.\"}");
+            case SAVE:
+                return post("/api/jobs/" + dataset.popularJob(random) + "/save", pick(seekerTokens, random), null);
+            case RECRUITER_APPLICATIONS:
+                return get("/api/applications/recruiter/applications", pick(recruiterTokens, random));
+            default:
+                throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+        }
+    }
+
+    private String logIn(int userId, Semaphore permits) throws IOException, InterruptedException {
+        permits.acquire();
+        try {
+            while (true) {
+                HttpResponse<String> response = httpClient.send(post("/api/auth/login", null, credentials(userId)),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 429) {
+                    // Hashing pool is full; back off as a real client would
+                    Thread.sleep(100);
+                    continue;
+                }
+                JsonNode token = response.statusCode() == 200 ? objectMapper.readTree(response.body()).get("token") : null;
+                if (token == null) {
+                    throw new IllegalStateException("Login failed for " + dataset.email(userId) + ": "
+                            + response.statusCode() + " " + response.body());
+                }
+                return token.asText();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private String credentials(int userId) {
+        return "{\"email\":\"" + dataset.email(userId) + "\",\"password\":\"" + LoadTestDataSeeder.PASSWORD + "\"}";
+    }
+
+    private HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return builder(path, token)
+                .header("Content-Type", "application/json")
+                .POST(json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static String pick(String[] tokens, SplittableRandom random) {
+        if (tokens.length == 0) {
+            throw new IllegalStateException("No sessions open for an authenticated request");
+        }
+        return tokens[random.nextInt(tokens.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,277 @@
+package com.jobportal.loadtest;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Fills the load test database with a synthetic dataset before the app reports ready, so the search
+ * indexes built on {@code ApplicationReadyEvent} cover it.
+ *
+ * Rows are generated from {@code loadtest.seed}, so a given seed and set of counts always produces the
+ * same data. Reference rows get explicit IDs (1..n per table) that the client relies on; applications
+ * and saves are skewed towards low job IDs, as real traffic favours a minority of popular jobs.
+ * Registered as a source by {@link LoadTest}, not picked up by component scanning.
+ */
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    static final String PASSWORD = "loadtest-password";
+
+    static final String[] ROLES = {
+        "Software Engineer", "Data Analyst", "Product Manager", "DevOps Engineer", "QA Engineer",
+        "Data Scientist", "Frontend Developer", "Backend Developer", "UX Designer", "Business Analyst",
+        "Sales Executive", "Marketing Manager", "Accountant", "HR Generalist", "Support Specialist",
+        "Java Developer", "Cloud Architect", "Security Engineer", "Mobile Developer", "Content Writer"
+    };
+
+    static final String[][] CITIES = {
+        {"Bangalore", "Karnataka", "India"}, {"Mumbai", "Maharashtra", "India"}, {"Delhi", "Delhi", "India"},
+        {"Hyderabad", "Telangana", "India"}, {"Pune", "Maharashtra", "India"}, {"Chennai", "Tamil Nadu", "India"},
+        {"New York", "New York", "United States"}, {"San Francisco", "California", "United States"},
+        {"Austin", "Texas", "United States"}, {"Seattle", "Washington", "United States"},
+        {"London", "England", "United Kingdom"}, {"Manchester", "England", "United Kingdom"},
+        {"Berlin", "Berlin", "Germany"}, {"Toronto", "Ontario", "Canada"}, {"Sydney", "New South Wales", "Australia"},
+        {"Singapore", "Singapore", "Singapore"}
+    };
+
+    private static final String[] LEVELS = {"Junior", "", "", "Senior", "Lead", "Principal"};
+    private static final String[] COMPANY_WORDS = {
+        "Acme", "Globex", "Initech", "Hooli", "Vandelay", "Stark", "Wayne", "Tyrell", "Umbrella", "Cyberdyne",
+        "Soylent", "Massive", "Nimbus", "Vertex", "Quantum", "Apex", "Bluefin", "Northwind", "Contoso", "Fabrikam"
+    };
+    private static final String[] COMPANY_SUFFIXES = {"Labs", "Systems", "Technologies", "Solutions", "Group", "Analytics"};
+    private static final String[] FIRST_NAMES = {
+        "Aarav", "Priya", "Rahul", "Ananya", "James", "Emma", "Liam", "Olivia", "Noah", "Sofia", "Arjun", "Meera"
+    };
+    private static final String[] LAST_NAMES = {
+        "Sharma", "Patel", "Iyer", "Reddy", "Smith", "Johnson", "Brown", "Garcia", "Miller", "Khan", "Singh", "Das"
+    };
+    private static final String[] DESCRIPTION_SENTENCES = {
+        "You will design, build and operate services used by millions of people.",
+        "Work closely with product, design and other engineers to ship features end to end.",
+        "Experience with Java, Spring Boot and relational databases is required.",
+        "Familiarity with cloud platforms, containers and CI/CD pipelines is a plus.",
+        "Analyze data to identify trends and turn them into actionable insights.",
+        "Mentor junior team members and contribute to our engineering culture.",
+        "We offer competitive pay, health insurance and a flexible hybrid schedule.",
+        "Strong written and verbal communication skills are essential."
+    };
+    // Weighted by repetition
+    private static final String[] JOB_TYPES = {"Full-Time", "Full-Time", "Full-Time", "Part-Time", "Freelance", "InternShip"};
+    private static final String[] REMOTE_OPTIONS = {"Office-Only", "Office-Only", "Remote-Only", "Partial-Remote"};
+    private static final String[] STATUSES = {
+        "APPLIED", "APPLIED", "APPLIED", "UNDER_REVIEW", "UNDER_REVIEW", "INTERVIEW_SCHEDULED", "REJECTED", "WITHDRAWN"
+    };
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final long MAX_JOB_AGE_MS = TimeUnit.DAYS.toMillis(90);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Dataset dataset;
+
+    public LoadTestDataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, Environment environment) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.dataset = new Dataset(
+                environment.getProperty("loadtest.seed", Long.class, 42L),
+                environment.getProperty("loadtest.companies", Integer.class, 500),
+                environment.getProperty("loadtest.locations", Integer.class, 300),
+                environment.getProperty("loadtest.recruiters", Integer.class, 200),
+                environment.getProperty("loadtest.seekers", Integer.class, 5_000),
+                environment.getProperty("loadtest.jobs", Integer.class, 20_000),
+                environment.getProperty("loadtest.applications", Integer.class, 50_000),
+                environment.getProperty("loadtest.saves", Integer.class, 20_000));
+    }
+
+    public Dataset getDataset() {
+        return dataset;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(dataset.seed());
+        long now = System.currentTimeMillis();
+        // Hashed once: BCrypt per user would dominate seeding, and every user shares the password anyway
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+
+        jdbcTemplate.batchUpdate("INSERT INTO users_type (user_type_id, user_type_name) VALUES (?, ?)",
+                List.of(new Object[] {1, "Recruiter"}, new Object[] {2, "Job Seeker"}));
+
+        insert("INSERT INTO job_company (id, name, logo, website) VALUES (?, ?, ?, ?)", dataset.companies(),
+                i -> new Object[] {i + 1, companyName(i + 1), null, "https://company" + (i + 1) + ".example.com"});
+
+        insert("INSERT INTO job_location (id, city, state, country) VALUES (?, ?, ?, ?)", dataset.locations(), i -> {
+            String[] city = CITIES[i % CITIES.length];
+            int round = i / CITIES.length;
+            return new Object[] {i + 1, round == 0 ? city[0] : city[0] + " " + (round + 1), city[1], city[2]};
+        });
+
+        int users = dataset.recruiters() + dataset.seekers();
+        String[][] names = new String[users + 1][];
+        insert("INSERT INTO users (user_id, email, password, first_name, last_name, is_active, token_version, "
+                + "registration_date, user_type_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", users, i -> {
+            int userId = i + 1;
+            boolean recruiter = userId <= dataset.recruiters();
+            names[userId] = new String[] {
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+            };
+            return new Object[] {userId, dataset.email(userId), passwordHash, names[userId][0], names[userId][1],
+                    true, 0, new Timestamp(now - random.nextLong(MAX_JOB_AGE_MS * 4)), recruiter ? 1 : 2};
+        });
+
+        insert("INSERT INTO recruiter_profile (user_account_id, first_name, last_name, company, city, state, country) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", dataset.recruiters(), i -> {
+            int userId = i + 1;
+            String[] city = CITIES[random.nextInt(CITIES.length)];
+            return new Object[] {userId, names[userId][0], names[userId][1], companyName(dataset.companyOf(userId)),
+                    city[0], city[1], city[2]};
+        });
+
+        insert("INSERT INTO job_seeker_profile (user_account_id, first_name, last_name, city, state, country) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", dataset.seekers(), i -> {
+            int userId = dataset.recruiters() + i + 1;
+            String[] city = CITIES[random.nextInt(CITIES.length)];
+            return new Object[] {userId, names[userId][0], names[userId][1], city[0], city[1], city[2]};
+        });
+
+        long[] postedAt = new long[dataset.jobs() + 1];
+        insert("INSERT INTO job_post_activity (job_post_id, job_title, description_of_job, job_type, salary, remote, "
+                + "posted_date, is_active, posted_by_id, job_location_id, job_company_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", dataset.jobs(), i -> {
+            int jobPostId = i + 1;
+            int recruiterId = 1 + random.nextInt(dataset.recruiters());
+            String level = LEVELS[random.nextInt(LEVELS.length)];
+            String title = (level.isEmpty() ? "" : level + " ") + ROLES[random.nextInt(ROLES.length)];
+            int salary = 3 + random.nextInt(40);
+            postedAt[jobPostId] = now - random.nextLong(MAX_JOB_AGE_MS);
+            return new Object[] {jobPostId, title, description(random), JOB_TYPES[random.nextInt(JOB_TYPES.length)],
+                    "₹" + salary + "L - ₹" + (salary + 2 + random.nextInt(10)) + "L",
+                    REMOTE_OPTIONS[random.nextInt(REMOTE_OPTIONS.length)], new Timestamp(postedAt[jobPostId]), true,
+                    recruiterId, 1 + random.nextInt(dataset.locations()), dataset.companyOf(recruiterId)};
+        });
+
+        List<long[]> applications = pairs(random, dataset.applications());
+        insert("INSERT INTO job_seeker_apply (user_id, job, apply_date, last_updated, status, cover_letter, resume_path) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", applications.size(), i -> {
+            int seekerId = (int) applications.get(i)[0];
+            int jobPostId = (int) applications.get(i)[1];
+            Timestamp appliedAt = new Timestamp(postedAt[jobPostId] + random.nextLong(now - postedAt[jobPostId] + 1));
+            return new Object[] {seekerId, jobPostId, appliedAt, appliedAt, STATUSES[random.nextInt(STATUSES.length)],
+                    "I am excited to apply for this role.", null};
+        });
+
+        List<long[]> saves = pairs(random, dataset.saves());
+        insert("INSERT INTO job_seeker_save (user_id, job) VALUES (?, ?)", saves.size(),
+                i -> new Object[] {saves.get(i)[0], saves.get(i)[1]});
+
+        // Explicit IDs do not move the identity columns; restart them past the seeded rows so rows the app
+        // inserts later do not collide
+        restartIdentity("users_type", "user_type_id", 3);
+        restartIdentity("job_company", "id", dataset.companies() + 1);
+        restartIdentity("job_location", "id", dataset.locations() + 1);
+        restartIdentity("users", "user_id", users + 1);
+        restartIdentity("job_post_activity", "job_post_id", dataset.jobs() + 1);
+
+        logger.info("Seeded {} jobs, {} users, {} applications and {} saves in {} ms", dataset.jobs(), users,
+                applications.size(), saves.size(), System.currentTimeMillis() - start);
+    }
+
+    // Distinct (seeker, job) pairs, with jobs skewed towards low IDs
+    private List<long[]> pairs(SplittableRandom random, int count) {
+        int limit = (int) Math.min(count, (long) dataset.seekers() * dataset.jobs());
+        Set<Long> seen = new HashSet<>(limit * 2);
+        List<long[]> pairs = new ArrayList<>(limit);
+        while (pairs.size() < limit) {
+            int seekerId = dataset.recruiters() + 1 + random.nextInt(dataset.seekers());
+            int jobPostId = dataset.popularJob(random);
+            if (seen.add((long) seekerId * Integer.MAX_VALUE + jobPostId)) {
+                pairs.add(new long[] {seekerId, jobPostId});
+            }
+        }
+        return pairs;
+    }
+
+    // Distinct for every ID: each word and suffix pairing, then numbered rounds of them
+    private static String companyName(int companyId) {
+        int i = companyId - 1;
+        String name = COMPANY_WORDS[i % COMPANY_WORDS.length] + " "
+                + COMPANY_SUFFIXES[(i / COMPANY_WORDS.length) % COMPANY_SUFFIXES.length];
+        int round = i / (COMPANY_WORDS.length * COMPANY_SUFFIXES.length);
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    private static String description(SplittableRandom random) {
+        StringBuilder description = new StringBuilder("<p>");
+        int sentences = 3 + random.nextInt(4);
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                description.append(' ');
+            }
+            description.append(DESCRIPTION_SENTENCES[random.nextInt(DESCRIPTION_SENTENCES.length)]);
+        }
+        return description.append("</p>").toString();
+    }
+
+    private void insert(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> batch = new ArrayList<>(Math.min(count, BATCH_SIZE));
+        for (int i = 0; i < count; i++) {
+            batch.add(row.apply(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private void restartIdentity(String table, String column, int next) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+    }
+
+    /**
+     * Sizes and seed of the seeded data, and how the client finds its way around it: recruiters are
+     * users 1..recruiters, seekers the users after them, and everything else is numbered from 1
+     */
+    public record Dataset(long seed, int companies, int locations, int recruiters, int seekers, int jobs,
+                          int applications, int saves) {
+
+        String email(int userId) {
+            return userId <= recruiters
+                    ? "recruiter" + userId + "@loadtest.example"
+                    : "seeker" + (userId - recruiters) + "@loadtest.example";
+        }
+
+        int companyOf(int recruiterId) {
+            return 1 + (recruiterId - 1) % companies;
+        }
+
+        int randomSeeker(SplittableRandom random) {
+            return recruiters + 1 + random.nextInt(seekers);
+        }
+
+        // Squaring a uniform draw puts half the picks in the first quarter of the jobs
+        int popularJob(SplittableRandom random) {
+            double u = random.nextDouble();
+            return 1 + (int) (jobs * u * u);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.jobportal.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * Client settings, read from the {@code loadtest.*} properties (defaults in application-loadtest.properties)
+ */
+record LoadTestOptions(boolean open, int users, long thinkMs, int rate, int maxInFlight, int warmupSeconds,
+                       int durationSeconds, int seekerSessions, int recruiterSessions, Map<Endpoint, Integer> mix,
+                       Path output, long seed) {
+
+    static LoadTestOptions from(Environment environment) {
+        String model = environment.getProperty("loadtest.model", "closed");
+        if (!model.equals("closed") && !model.equals("open")) {
+            throw new IllegalArgumentException("loadtest.model must be closed or open, not " + model);
+        }
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            int weight = environment.getProperty("loadtest.mix." + endpoint.key(), Integer.class, 0);
+            if (weight > 0) {
+                mix.put(endpoint, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix.* gives no endpoint a positive weight");
+        }
+        return new LoadTestOptions(
+                model.equals("open"),
+                environment.getProperty("loadtest.users", Integer.class, 50),
+                environment.getProperty("loadtest.think-ms", Long.class, 0L),
+                environment.getProperty("loadtest.rate", Integer.class, 200),
+                environment.getProperty("loadtest.max-in-flight", Integer.class, 2_000),
+                environment.getProperty("loadtest.warmup-seconds", Integer.class, 15),
+                environment.getProperty("loadtest.duration-seconds", Integer.class, 60),
+                environment.getProperty("loadtest.seeker-sessions", Integer.class, 500),
+                environment.getProperty("loadtest.recruiter-sessions", Integer.class, 50),
+                mix,
+                Path.of(environment.getProperty("loadtest.output", "target/loadtest")),
+                environment.getProperty("loadtest.seed", Long.class, 42L));
+    }
+
+    /**
+     * An endpoint drawn with probability proportional to its weight
+     */
+    Endpoint next(SplittableRandom random) {
+        int pick = random.nextInt(totalWeight());
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    /**
+     * The settings that shape the load, as they appear in the summary
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("model", open ? "open" : "closed");
+        if (open) {
+            description.put("rate", rate);
+            description.put("maxInFlight", maxInFlight);
+        } else {
+            description.put("users", users);
+            description.put("thinkMs", thinkMs);
+        }
+        description.put("warmupSeconds", warmupSeconds);
+        description.put("durationSeconds", durationSeconds);
+        description.put("seekerSessions", seekerSessions);
+        description.put("recruiterSessions", recruiterSessions);
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.forEach((endpoint, weight) -> weights.put(endpoint.key(), weight));
+        description.put("mix", weights);
+        return description;
+    }
+
+    private int totalWeight() {
+        int total = 0;
+        for (int weight : mix.values()) {
+            total += weight;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,103 @@
+package com.jobportal.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes a run's results: {@code <endpoint>.hgrm} (the full HDR percentile distribution, in
+ * milliseconds, for HdrHistogram's plotter) and {@code summary.json}, with keys in a fixed order and
+ * no timestamps so the summaries of two builds can be diffed directly
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    void write(Path directory, LoadTestOptions options, LoadTestDataSeeder.Dataset dataset,
+               Map<Endpoint, EndpointStats> stats, double seconds) throws IOException {
+        Files.createDirectories(directory);
+        Map<String, Object> endpoints = new TreeMap<>();
+        Histogram overall = new Histogram(3);
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            Histogram latency = endpointStats.latency().copy();
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().key() + ".hgrm")))) {
+                latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+            overall.add(latency);
+            requests += endpointStats.requests();
+            errors += endpointStats.errors();
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", endpointStats.requests());
+            summary.put("throughput", round(endpointStats.requests() / seconds));
+            summary.put("successes", endpointStats.successes());
+            summary.put("conflicts", endpointStats.conflicts());
+            summary.put("errors", endpointStats.errors());
+            summary.put("dropped", endpointStats.dropCount());
+            summary.put("statuses", endpointStats.statusCounts());
+            summary.put("latencyMs", latency(latency));
+            endpoints.put(entry.getKey().key(), summary);
+        }
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("requests", requests);
+        totals.put("throughput", round(requests / seconds));
+        totals.put("errors", errors);
+        totals.put("latencyMs", latency(overall));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("load", options.describe());
+        report.put("dataset", dataset);
+        report.put("totals", totals);
+        report.put("endpoints", endpoints);
+        objectMapper.writeValue(directory.resolve("summary.json").toFile(), report);
+
+        print(endpoints, totals);
+    }
+
+    private static void print(Map<String, Object> endpoints, Map<String, Object> totals) {
+        System.out.printf("%n%-24s %10s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((name, summary) -> printRow(name, (Map<?, ?>) summary));
+        printRow("total", totals);
+    }
+
+    private static void printRow(String name, Map<?, ?> summary) {
+        Map<?, ?> latency = (Map<?, ?>) summary.get("latencyMs");
+        System.out.printf("%-24s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f%n", name, summary.get("requests"),
+                summary.get("throughput"), summary.get("errors"), latency.get("p50"), latency.get("p99"),
+                latency.get("p99.9"), latency.get("max"));
+    }
+
+    private static Map<String, Double> latency(Histogram histogram) {
+        Map<String, Double> latency = new LinkedHashMap<>();
+        latency.put("mean", round(histogram.getMean() / MICROS_PER_MILLI));
+        for (double percentile : PERCENTILES) {
+            String key = "p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile));
+            latency.put(key, round(histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI));
+        }
+        latency.put("max", round(histogram.getMaxValue() / MICROS_PER_MILLI));
+        return latency;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1_000.0) / 1_000.0;
+    }
+}
@@ -4,12 +4,18 @@ import com.jobportal.config.JwtTokenProvider;
 import com.jobportal.dto.ApiResponse;
 import com.jobportal.dto.JwtResponse;
 import com.jobportal.dto.LoginRequest;
+import com.jobportal.dto.RefreshTokenRequest;
 import com.jobportal.dto.RegisterRequestDto;
 import com.jobportal.dto.UserProfileDto;
 import com.jobportal.entity.Users;
 import com.jobportal.entity.UsersType;
+import com.jobportal.exception.PasswordHashingBusyException;
+import com.jobportal.services.RefreshTokenService;
+import com.jobportal.services.TokenRevocationService;
+import com.jobportal.services.TokenVersionService;
 import com.jobportal.services.UsersService;
 import com.jobportal.services.UsersTypeService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +51,15 @@ public class AuthRestController {
     @Autowired
     private UsersTypeService usersTypeService;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
         try {
@@ -68,7 +83,8 @@ public class AuthRestController {
             String jwt = tokenProvider.generateToken(
                 userDetails.getUsername(), 
                 user.getUserTypeId().getUserTypeName(), 
-                Long.valueOf(user.getUserId())
+                Long.valueOf(user.getUserId()),
+                user.getTokenVersion()
             );
 
             // Return direct JwtResponse for frontend compatibility
@@ -81,6 +97,7 @@ public class AuthRestController {
                 user.getUserTypeId().getUserTypeName(),
                 tokenProvider.getExpirationTime()
             );
+            jwtResponse.setRefreshToken(refreshTokenService.issue(user));
 
             logger.info("Login successful for user: {}", user.getEmail());
             return ResponseEntity.ok(jwtResponse);
@@ -89,6 +106,9 @@ public class AuthRestController {
             logger.warn("Invalid credentials for email: {}", loginRequest.getEmail());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(new ApiResponse<>(false, "Invalid email or password", null));
+        } catch (PasswordHashingBusyException e) {
+            // Answered with 429 by RestExceptionHandler
+            throw e;
         } catch (Exception e) {
             logger.error("Login error for email: {}", loginRequest.getEmail(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -139,7 +159,8 @@ public class AuthRestController {
             String jwt = tokenProvider.generateToken(
                 savedUser.getEmail(),
                 savedUser.getUserTypeId().getUserTypeName(),
-                Long.valueOf(savedUser.getUserId())
+                Long.valueOf(savedUser.getUserId()),
+                savedUser.getTokenVersion()
             );
 
             JwtResponse jwtResponse = new JwtResponse(
@@ -151,10 +172,13 @@ public class AuthRestController {
                 savedUser.getUserTypeId().getUserTypeName(),
                 tokenProvider.getExpirationTime()
             );
+            jwtResponse.setRefreshToken(refreshTokenService.issue(savedUser));
 
             logger.info("Registration successful for user: {}", savedUser.getEmail());
             return ResponseEntity.status(HttpStatus.CREATED).body(jwtResponse);
 
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Registration error for email: {}", registerRequest.getEmail(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -162,9 +186,47 @@ public class AuthRestController {
         }
     }
 
+    /**
+     * Exchange a refresh token for a new access token and the next refresh token; the presented one
+     * cannot be used again
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest refreshRequest) {
+        RefreshTokenService.Tokens tokens = refreshTokenService.refresh(refreshRequest.getRefreshToken());
+        if (tokens == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new ApiResponse<>(false, "Invalid or expired refresh token", null));
+        }
+
+        // Names are not carried in tokens; one primary-key lookup keeps the response the same as login's
+        Users user = tokens.getUserId() != null ? usersService.findById(tokens.getUserId().intValue()) : null;
+        JwtResponse jwtResponse = new JwtResponse(
+            tokens.getAccessToken(),
+            tokens.getUserId(),
+            tokens.getEmail(),
+            user != null ? user.getFirstName() : null,
+            user != null ? user.getLastName() : null,
+            tokens.getUserType(),
+            tokenProvider.getExpirationTime()
+        );
+        jwtResponse.setRefreshToken(tokens.getRefreshToken());
+        return ResponseEntity.ok(jwtResponse);
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<String>> logout() {
+    public ResponseEntity<ApiResponse<String>> logout(@RequestHeader(value = "Authorization", required = false) String token,
+                                                      @RequestBody(required = false) RefreshTokenRequest logoutRequest) {
         try {
+            // The access token stays valid until it expires unless it is revoked here
+            if (token != null && token.startsWith("Bearer ")) {
+                Claims claims = tokenProvider.verify(token.substring(7));
+                if (claims != null) {
+                    tokenRevocationService.revoke(claims);
+                }
+            }
+            if (logoutRequest != null && logoutRequest.getRefreshToken() != null) {
+                refreshTokenService.revoke(logoutRequest.getRefreshToken());
+            }
             SecurityContextHolder.clearContext();
             return ResponseEntity.ok(new ApiResponse<>(true, "Logout successful", null));
         } catch (Exception e) {
@@ -216,7 +278,10 @@ public class AuthRestController {
         try {
             if (token != null && token.startsWith("Bearer ")) {
                 String jwt = token.substring(7);
-                boolean isValid = tokenProvider.validateToken(jwt);
+                Claims claims = tokenProvider.verify(jwt);
+                boolean isValid = claims != null
+                        && (claims.getId() == null || !tokenRevocationService.isRevoked(claims.getId()))
+                        && hasCurrentVersion(claims);
                 return ResponseEntity.ok(new ApiResponse<>(true, "Token validation result", isValid));
             }
             return ResponseEntity.ok(new ApiResponse<>(true, "Token validation result", false));
@@ -225,4 +290,14 @@ public class AuthRestController {
             return ResponseEntity.ok(new ApiResponse<>(true, "Token validation result", false));
         }
     }
+
+    /**
+     * Same version check as JwtAuthenticationFilter; tokens issued before versions existed carry none
+     */
+    private boolean hasCurrentVersion(Claims claims) {
+        Number userId = claims.get(JwtTokenProvider.USER_ID, Number.class);
+        Number tokenVersion = claims.get(JwtTokenProvider.TOKEN_VERSION, Number.class);
+        return userId == null || tokenVersion == null
+                || tokenVersionService.isCurrent(userId.intValue(), tokenVersion.intValue());
+    }
 }
\ No newline at end of file
@@ -1,18 +1,20 @@
 package com.jobportal.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobportal.dto.CompanyProfileDto;
-import com.jobportal.entity.JobPostActivity;
+import com.jobportal.dto.JobResponse;
 import com.jobportal.entity.RecruiterProfile;
 import com.jobportal.services.JobPostActivityService;
 import com.jobportal.services.RecruiterProfileService;
 import com.jobportal.dto.ApiResponse;
+import com.jobportal.util.StreamingJsonResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -23,11 +25,14 @@ public class CompanyRestController {
 
     private final RecruiterProfileService recruiterProfileService;
     private final JobPostActivityService jobPostActivityService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public CompanyRestController(RecruiterProfileService recruiterProfileService, JobPostActivityService jobPostActivityService) {
+    public CompanyRestController(RecruiterProfileService recruiterProfileService, JobPostActivityService jobPostActivityService,
+                                 ObjectMapper objectMapper) {
         this.recruiterProfileService = recruiterProfileService;
         this.jobPostActivityService = jobPostActivityService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/{id}")
@@ -61,13 +66,10 @@ public class CompanyRestController {
     }
 
     @GetMapping("/{id}/jobs")
-    public ResponseEntity<ApiResponse<List<JobPostActivity>>> getCompanyJobs(@PathVariable Integer id) {
-        try {
-            List<JobPostActivity> jobs = jobPostActivityService.getActiveJobsByRecruiter(id);
-            return ResponseEntity.ok(new ApiResponse<>(true, "Company jobs retrieved successfully", jobs));
-        } catch (Exception e) {
-            logger.error("Error fetching company jobs", e);
-            return ResponseEntity.status(500).body(new ApiResponse<>(false, "Error fetching company jobs", null));
-        }
+    public ResponseEntity<StreamingResponseBody> getCompanyJobs(@PathVariable Integer id,
+                                                                @RequestParam(value = "summary", defaultValue = "false") boolean summary) {
+        // Streamed batch by batch: a large employer's job list is never held in memory at once
+        return StreamingJsonResponse.<JobResponse>ok(objectMapper, "Company jobs retrieved successfully",
+                sink -> jobPostActivityService.forEachActiveJobByRecruiter(id, summary, sink));
     }
 }
@@ -12,8 +12,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -197,12 +195,11 @@ public class JobApplicationRestController {
     public ResponseEntity<?> applyForJob(@PathVariable Integer jobId, 
                                        @RequestBody JobApplicationRequest request) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
             
-            logger.info("Apply attempt: User {} (ID: {}) for Job {}", auth.getName(), (currentUser != null ? currentUser.getUserId() : "null"), jobId);
+            logger.info("Apply attempt: User {} (ID: {}) for Job {}", currentUser.getEmail(), currentUser.getUserId(), jobId);
             
-            Optional<JobSeekerProfile> jobSeekerOpt = jobSeekerProfileService.getOne(currentUser.getUserId());
+            Optional<JobSeekerProfile> jobSeekerOpt = Optional.ofNullable(jobSeekerProfileService.getCurrentSeekerProfile());
             if (jobSeekerOpt.isEmpty()) {
                 logger.warn("Apply failed: JobSeekerProfile NOT FOUND for user ID: {}", currentUser.getUserId());
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -234,12 +231,11 @@ public class JobApplicationRestController {
     @GetMapping("/my-applications")
     public ResponseEntity<?> getMyApplications() {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
             
-            logger.info("Listing applications for user: {} (ID: {})", auth.getName(), (currentUser != null ? currentUser.getUserId() : "null"));
+            logger.info("Listing applications for user: {} (ID: {})", currentUser.getEmail(), currentUser.getUserId());
             
-            Optional<JobSeekerProfile> jobSeekerOpt = jobSeekerProfileService.getOne(currentUser.getUserId());
+            Optional<JobSeekerProfile> jobSeekerOpt = Optional.ofNullable(jobSeekerProfileService.getCurrentSeekerProfile());
             if (jobSeekerOpt.isEmpty()) {
                 logger.warn("Listing failed: JobSeekerProfile NOT FOUND for user ID: {}", currentUser.getUserId());
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -270,10 +266,9 @@ public class JobApplicationRestController {
     @PutMapping("/{applicationId}/withdraw")
     public ResponseEntity<?> withdrawApplication(@PathVariable Integer applicationId) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
             
-            Optional<JobSeekerProfile> jobSeekerOpt = jobSeekerProfileService.getOne(currentUser.getUserId());
+            Optional<JobSeekerProfile> jobSeekerOpt = Optional.ofNullable(jobSeekerProfileService.getCurrentSeekerProfile());
             if (jobSeekerOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "Only job seekers can withdraw applications"));
@@ -300,10 +295,9 @@ public class JobApplicationRestController {
     @GetMapping("/job/{jobId}/status")
     public ResponseEntity<?> getApplicationStatus(@PathVariable Integer jobId) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
             
-            Optional<JobSeekerProfile> jobSeekerOpt = jobSeekerProfileService.getOne(currentUser.getUserId());
+            Optional<JobSeekerProfile> jobSeekerOpt = Optional.ofNullable(jobSeekerProfileService.getCurrentSeekerProfile());
             if (jobSeekerOpt.isEmpty()) {
                 return ResponseEntity.ok(Map.of("hasApplied", false));
             }
@@ -331,10 +325,9 @@ public class JobApplicationRestController {
     public ResponseEntity<?> getRecruiterApplications(
             @RequestParam(required = false) JobSeekerApply.ApplicationStatus status) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
             
-            Optional<RecruiterProfile> recruiterOpt = recruiterProfileService.getOne(currentUser.getUserId());
+            Optional<RecruiterProfile> recruiterOpt = Optional.ofNullable(recruiterProfileService.getCurrentRecruiterProfile());
             if (recruiterOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "Only recruiters can view job applications"));
@@ -373,8 +366,7 @@ public class JobApplicationRestController {
             }
 
             // Verify the recruiter owns this job
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
             
             if (!Objects.equals(job.getPostedById().getUserId(), currentUser.getUserId())) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -414,8 +406,7 @@ public class JobApplicationRestController {
                 return ResponseEntity.notFound().build();
             }
 
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
 
             JobSeekerApply application = applicationOpt.get();
             if (!Objects.equals(application.getJob().getPostedById().getUserId(), currentUser.getUserId())) {
@@ -443,10 +434,9 @@ public class JobApplicationRestController {
     @GetMapping("/recruiter/statistics")
     public ResponseEntity<?> getRecruiterStatistics() {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
             
-            Optional<RecruiterProfile> recruiterOpt = recruiterProfileService.getOne(currentUser.getUserId());
+            Optional<RecruiterProfile> recruiterOpt = Optional.ofNullable(recruiterProfileService.getCurrentRecruiterProfile());
             if (recruiterOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "Only recruiters can view statistics"));
@@ -472,10 +462,9 @@ public class JobApplicationRestController {
     @GetMapping("/recruiter/recent")
     public ResponseEntity<?> getRecentApplications() {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
             
-            Optional<RecruiterProfile> recruiterOpt = recruiterProfileService.getOne(currentUser.getUserId());
+            Optional<RecruiterProfile> recruiterOpt = Optional.ofNullable(recruiterProfileService.getCurrentRecruiterProfile());
             if (recruiterOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "Only recruiters can view applications"));
@@ -510,8 +499,7 @@ public class JobApplicationRestController {
             JobSeekerApply application = applicationOpt.get();
             
             // Verify user has permission to view this application
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Users currentUser = usersService.findByEmail(auth.getName());
+            Users currentUser = usersService.getCurrentUser();
             
             boolean isOwner = Objects.equals(application.getUserId().getUserAccountId(), currentUser.getUserId());
             boolean isRecruiter = Objects.equals(application.getJob().getPostedById().getUserId(), currentUser.getUserId());
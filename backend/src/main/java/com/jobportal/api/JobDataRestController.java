@@ -1,10 +1,14 @@
 package com.jobportal.api;
 
 import com.jobportal.dto.ApiResponse;
+import com.jobportal.dto.LocationSuggestionDto;
 import com.jobportal.entity.JobCompany;
 import com.jobportal.entity.JobLocation;
 import com.jobportal.repository.JobCompanyRepository;
 import com.jobportal.repository.JobLocationRepository;
+import com.jobportal.search.CompanyIndex;
+import com.jobportal.search.LocationIndex;
+import com.jobportal.services.SitemapService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/job-data")
@@ -29,12 +34,25 @@ public class JobDataRestController {
 
     private static final Logger logger = LoggerFactory.getLogger(JobDataRestController.class);
 
+    private static final int MAX_LOCATION_RESULTS = 50;
+
+    private static final int MAX_COMPANY_RESULTS = 50;
+
     @Autowired
     private JobLocationRepository jobLocationRepository;
 
     @Autowired
     private JobCompanyRepository jobCompanyRepository;
 
+    @Autowired
+    private LocationIndex locationIndex;
+
+    @Autowired
+    private CompanyIndex companyIndex;
+
+    @Autowired
+    private SitemapService sitemapService;
+
     // ===== LOCATION ENDPOINTS =====
 
     @GetMapping("/locations")
@@ -71,6 +89,7 @@ public class JobDataRestController {
             newLocation.setCountry(locationRequest.getCountry().trim());
 
             JobLocation savedLocation = jobLocationRepository.save(newLocation);
+            locationIndex.index(savedLocation);
             return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponse<>(true, "Location created successfully", savedLocation));
 
@@ -98,9 +117,10 @@ public class JobDataRestController {
     @PostMapping("/companies")
     public ResponseEntity<ApiResponse<JobCompany>> createOrGetCompany(@RequestBody JobCompany companyRequest) {
         try {
-            // Check if company already exists
-            Optional<JobCompany> existingCompany = jobCompanyRepository
-                .findByName(companyRequest.getName().trim());
+            // Check if company already exists; the index also catches "ACME Inc." vs "Acme" and close misspellings
+            Optional<JobCompany> existingCompany = companyIndex.isReady()
+                ? companyIndex.findDuplicate(companyRequest.getName())
+                : jobCompanyRepository.findByName(companyRequest.getName().trim());
 
             if (existingCompany.isPresent()) {
                 return ResponseEntity.ok(new ApiResponse<>(true, "Company found", existingCompany.get()));
@@ -113,6 +133,8 @@ public class JobDataRestController {
             newCompany.setLogo(companyRequest.getLogo());
 
             JobCompany savedCompany = jobCompanyRepository.save(newCompany);
+            companyIndex.index(savedCompany);
+            sitemapService.companyChanged(savedCompany.getId());
             return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ApiResponse<>(true, "Company created successfully", savedCompany));
 
@@ -126,13 +148,20 @@ public class JobDataRestController {
     // ===== SEARCH ENDPOINTS =====
 
     @GetMapping("/locations/search")
-    public ResponseEntity<ApiResponse<List<JobLocation>>> searchLocations(
+    public ResponseEntity<ApiResponse<List<LocationSuggestionDto>>> searchLocations(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String state,
-            @RequestParam(required = false) String country) {
+            @RequestParam(required = false) String country,
+            @RequestParam(defaultValue = "10") int limit) {
         try {
+            int maxResults = Math.max(1, Math.min(limit, MAX_LOCATION_RESULTS));
+            if (locationIndex.isReady()) {
+                List<LocationSuggestionDto> suggestions = locationIndex.search(city, state, country, maxResults);
+                return ResponseEntity.ok(new ApiResponse<>(true, "Location search completed", suggestions));
+            }
+
+            // Index still loading: fall back to the database, without job counts
             List<JobLocation> locations;
-            
             if (city != null && !city.trim().isEmpty()) {
                 locations = jobLocationRepository.findByCityContainingIgnoreCase(city.trim());
             } else if (state != null && !state.trim().isEmpty()) {
@@ -143,7 +172,12 @@ public class JobDataRestController {
                 locations = jobLocationRepository.findAll();
             }
 
-            return ResponseEntity.ok(new ApiResponse<>(true, "Location search completed", locations));
+            List<LocationSuggestionDto> suggestions = locations.stream()
+                .limit(maxResults)
+                .map(location -> new LocationSuggestionDto(location.getId(), location.getCity(),
+                    location.getState(), location.getCountry(), 0))
+                .collect(Collectors.toList());
+            return ResponseEntity.ok(new ApiResponse<>(true, "Location search completed", suggestions));
         } catch (Exception e) {
             logger.error("Error searching locations", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -152,9 +186,16 @@ public class JobDataRestController {
     }
 
     @GetMapping("/companies/search")
-    public ResponseEntity<ApiResponse<List<JobCompany>>> searchCompanies(@RequestParam String name) {
+    public ResponseEntity<ApiResponse<List<JobCompany>>> searchCompanies(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "10") int limit) {
         try {
-            List<JobCompany> companies = jobCompanyRepository.findByNameContainingIgnoreCase(name.trim());
+            int maxResults = Math.max(1, Math.min(limit, MAX_COMPANY_RESULTS));
+            List<JobCompany> companies = companyIndex.isReady()
+                ? companyIndex.search(name, maxResults)
+                : jobCompanyRepository.findByNameContainingIgnoreCase(name.trim()).stream()
+                    .limit(maxResults)
+                    .collect(Collectors.toList());
             return ResponseEntity.ok(new ApiResponse<>(true, "Company search completed", companies));
         } catch (Exception e) {
             logger.error("Error searching companies", e);
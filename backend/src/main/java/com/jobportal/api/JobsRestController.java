@@ -1,8 +1,10 @@
 package com.jobportal.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobportal.dto.ApiResponse;
 import com.jobportal.dto.JobCreateRequestDto;
 import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.PageInfo;
 import com.jobportal.entity.JobCompany;
 import com.jobportal.entity.JobLocation;
 import com.jobportal.entity.JobPostActivity;
@@ -12,10 +14,16 @@ import com.jobportal.entity.JobSeekerSave;
 import com.jobportal.entity.Users;
 import com.jobportal.repository.JobCompanyRepository;
 import com.jobportal.repository.JobLocationRepository;
+import com.jobportal.search.CachedJobPage;
+import com.jobportal.search.JobPage;
+import com.jobportal.search.JobSearchCache;
+import com.jobportal.search.JobSearchQuery;
 import com.jobportal.services.JobPostActivityService;
 import com.jobportal.services.JobSeekerApplyService;
 import com.jobportal.services.JobSeekerSaveService;
+import com.jobportal.services.JobStatusService;
 import com.jobportal.services.UsersService;
+import com.jobportal.util.StreamingJsonResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,8 +31,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -44,15 +56,28 @@ public class JobsRestController {
 
     private static final Logger logger = LoggerFactory.getLogger(JobsRestController.class);
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int MAX_SUGGESTIONS = 20;
+
     @Autowired
     private JobPostActivityService jobPostActivityService;
 
+    @Autowired
+    private JobSearchCache jobSearchCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private JobSeekerApplyService jobSeekerApplyService;
 
     @Autowired
     private JobSeekerSaveService jobSeekerSaveService;
 
+    @Autowired
+    private JobStatusService jobStatusService;
+
     @Autowired
     private UsersService usersService;
 
@@ -64,13 +89,15 @@ public class JobsRestController {
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<JobResponse>>> getAllJobs(
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "job", required = false) String job,
             @RequestParam(value = "location", required = false) String location,
             @RequestParam(value = "jobType", required = false) List<String> jobTypes,
             @RequestParam(value = "remote", required = false) List<String> remoteOptions,
-            @RequestParam(value = "days", required = false) Integer days) {
+            @RequestParam(value = "days", required = false) Integer days,
+            @RequestParam(value = "sort", defaultValue = "date") String sort,
+            @RequestParam(value = "summary", defaultValue = "false") boolean summary) {
         
         try {
             // If search parameters are provided, use search functionality
@@ -79,17 +106,17 @@ public class JobsRestController {
                 (remoteOptions != null && !remoteOptions.isEmpty()) || 
                 days != null) {
                 
-                return searchJobs(job, location, jobTypes, remoteOptions, days);
+                return searchJobs(job, location, jobTypes, remoteOptions, days, cursor, size, sort, summary);
             }
 
-            List<JobPostActivity> jobs = jobPostActivityService.getAll();
-            
-            // Convert to JobResponse DTOs
-            List<JobResponse> jobResponses = jobs.stream()
-                .map(this::convertToJobResponse)
-                .collect(Collectors.toList());
-
-            return ResponseEntity.ok(new ApiResponse<>(true, "Jobs retrieved successfully", jobResponses));
+            int pageSize = clampPageSize(size);
+            JobSearchQuery everything = new JobSearchQuery(null, null, null, null, null);
+            CachedJobPage page = jobSearchCache.get(everything, false, summary, cursor, pageSize,
+                () -> toCachedPage(jobPostActivityService.getPage(cursor, pageSize, summary), pageSize));
+            return ResponseEntity.ok(toPageResponse("Jobs retrieved successfully", page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ApiResponse<>(false, "Invalid cursor", null));
         } catch (Exception e) {
             logger.error("Error retrieving jobs", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -103,7 +130,11 @@ public class JobsRestController {
             @RequestParam(value = "location", required = false) String location,
             @RequestParam(value = "jobType", required = false) List<String> jobTypes,
             @RequestParam(value = "remote", required = false) List<String> remoteOptions,
-            @RequestParam(value = "days", required = false) Integer days) {
+            @RequestParam(value = "days", required = false) Integer days,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "sort", defaultValue = "date") String sort,
+            @RequestParam(value = "summary", defaultValue = "false") boolean summary) {
         
         try {
             LocalDate searchDate = null;
@@ -111,26 +142,25 @@ public class JobsRestController {
                 searchDate = LocalDate.now().minusDays(days);
             }
 
-            // Set defaults if not provided
-            if (jobTypes == null || jobTypes.isEmpty()) {
-                jobTypes = Arrays.asList("Part-Time", "Full-Time", "Freelance", "InternShip");
+            // An empty type/remote selection means "any"
+            if (jobTypes != null && jobTypes.isEmpty()) {
+                jobTypes = null;
             }
-            if (remoteOptions == null || remoteOptions.isEmpty()) {
-                remoteOptions = Arrays.asList("Remote-Only", "Office-Only", "Partial-Remote");
+            if (remoteOptions != null && remoteOptions.isEmpty()) {
+                remoteOptions = null;
             }
 
-            List<JobPostActivity> jobs;
-            if (!StringUtils.hasText(job) && !StringUtils.hasText(location) && searchDate == null) {
-                jobs = jobPostActivityService.getAll();
-            } else {
-                jobs = jobPostActivityService.search(job, location, jobTypes, remoteOptions, searchDate);
-            }
-
-            List<JobResponse> jobResponses = jobs.stream()
-                .map(this::convertToJobResponse)
-                .collect(Collectors.toList());
-
-            return ResponseEntity.ok(new ApiResponse<>(true, "Search completed successfully", jobResponses));
+            int pageSize = clampPageSize(size);
+            JobSearchQuery query = new JobSearchQuery(job, location, jobTypes, remoteOptions, searchDate);
+            boolean byRelevance = "relevance".equalsIgnoreCase(sort);
+            CachedJobPage page = jobSearchCache.get(query, byRelevance, summary, cursor, pageSize,
+                () -> toCachedPage(byRelevance
+                    ? jobPostActivityService.rankedSearchPage(query, cursor, pageSize, summary)
+                    : jobPostActivityService.searchPage(query, cursor, pageSize, summary), pageSize));
+            return ResponseEntity.ok(toPageResponse("Search completed successfully", page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ApiResponse<>(false, "Invalid cursor", null));
         } catch (Exception e) {
             logger.error("Error searching jobs", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -138,6 +168,51 @@ public class JobsRestController {
         }
     }
 
+    // Unpaged variants: every matching job, written to the response one at a time
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllJobs(
+            @RequestParam(value = "job", required = false) String job,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "jobType", required = false) List<String> jobTypes,
+            @RequestParam(value = "remote", required = false) List<String> remoteOptions,
+            @RequestParam(value = "days", required = false) Integer days,
+            @RequestParam(value = "summary", defaultValue = "false") boolean summary) {
+        if (StringUtils.hasText(job) || StringUtils.hasText(location) ||
+            (jobTypes != null && !jobTypes.isEmpty()) ||
+            (remoteOptions != null && !remoteOptions.isEmpty()) ||
+            days != null) {
+            return streamSearchJobs(job, location, jobTypes, remoteOptions, days, summary);
+        }
+        return StreamingJsonResponse.<JobResponse>ok(objectMapper, "Jobs retrieved successfully",
+            sink -> jobPostActivityService.forEachJob(summary, sink));
+    }
+
+    @GetMapping(value = "/search", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamSearchJobs(
+            @RequestParam(value = "job", required = false) String job,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "jobType", required = false) List<String> jobTypes,
+            @RequestParam(value = "remote", required = false) List<String> remoteOptions,
+            @RequestParam(value = "days", required = false) Integer days,
+            @RequestParam(value = "summary", defaultValue = "false") boolean summary) {
+        LocalDate searchDate = days != null && days > 0 ? LocalDate.now().minusDays(days) : null;
+        JobSearchQuery query = new JobSearchQuery(job, location,
+            jobTypes != null && !jobTypes.isEmpty() ? jobTypes : null,
+            remoteOptions != null && !remoteOptions.isEmpty() ? remoteOptions : null,
+            searchDate);
+        return StreamingJsonResponse.<JobResponse>ok(objectMapper, "Search completed successfully",
+            sink -> jobPostActivityService.forEachSearchResult(query, summary, sink));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<String>>> suggestJobTitles(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "limit", defaultValue = "8") int limit) {
+        List<String> suggestions = jobPostActivityService.suggestTitles(query,
+                Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+        return ResponseEntity.ok(new ApiResponse<>(true, "Suggestions retrieved successfully", suggestions));
+    }
+
     // NEW: Add GET endpoint for job creation form - MUST come before /{id} endpoint
     @GetMapping("/create")
     @PreAuthorize("hasAuthority('Recruiter')")
@@ -183,7 +258,7 @@ public class JobsRestController {
             List<JobPostActivity> recruiterJobs = jobPostActivityService.getActiveJobsByRecruiter(currentUser.getUserId());
 
             List<JobResponse> jobResponses = recruiterJobs.stream()
-                .map(this::convertToJobResponse)
+                .map(JobsRestController::convertToJobResponse)
                 .collect(Collectors.toList());
 
             return ResponseEntity.ok(new ApiResponse<>(true, "Recruiter jobs retrieved successfully", jobResponses));
@@ -214,18 +289,7 @@ public class JobsRestController {
                     if (profile instanceof JobSeekerProfile) {
                         JobSeekerProfile seekerProfile = (JobSeekerProfile) profile;
                         
-                        // Check if applied
-                        List<JobSeekerApply> applications = jobSeekerApplyService.getCandidatesJobs(seekerProfile);
-                        boolean hasApplied = applications.stream()
-                            .anyMatch(apply -> Objects.equals(apply.getJob().getJobPostId(), id));
-                        
-                        // Check if saved
-                        List<JobSeekerSave> savedJobs = jobSeekerSaveService.getCandidatesJob(seekerProfile);
-                        boolean hasSaved = savedJobs.stream()
-                            .anyMatch(save -> Objects.equals(save.getJob().getJobPostId(), id));
-                        
-                        jobResponse.setApplied(hasApplied);
-                        jobResponse.setSaved(hasSaved);
+                        jobResponse = jobStatusService.annotateResponses(seekerProfile, List.of(jobResponse)).get(0);
                     }
                 }
             } catch (Exception e) {
@@ -246,8 +310,8 @@ public class JobsRestController {
     public ResponseEntity<ApiResponse<Map<String, Boolean>>> checkJobStatus(@PathVariable Integer id) {
         try {
             Map<String, Boolean> status = new HashMap<>();
-            status.put("alreadyApplied", false);
-            status.put("alreadySaved", false);
+            status.put(JobStatusService.APPLIED, false);
+            status.put(JobStatusService.SAVED, false);
 
             Users currentUser = usersService.getCurrentUser();
             if (currentUser != null && "Job Seeker".equals(currentUser.getUserTypeId().getUserTypeName())) {
@@ -255,18 +319,7 @@ public class JobsRestController {
                 if (profile instanceof JobSeekerProfile) {
                     JobSeekerProfile seekerProfile = (JobSeekerProfile) profile;
                     
-                    // Check if applied
-                    List<JobSeekerApply> applications = jobSeekerApplyService.getCandidatesJobs(seekerProfile);
-                    boolean hasApplied = applications.stream()
-                        .anyMatch(apply -> Objects.equals(apply.getJob().getJobPostId(), id));
-                    
-                    // Check if saved
-                    List<JobSeekerSave> savedJobs = jobSeekerSaveService.getCandidatesJob(seekerProfile);
-                    boolean hasSaved = savedJobs.stream()
-                        .anyMatch(save -> Objects.equals(save.getJob().getJobPostId(), id));
-                    
-                    status.put("alreadyApplied", hasApplied);
-                    status.put("alreadySaved", hasSaved);
+                    status.putAll(jobStatusService.getStatuses(seekerProfile, List.of(id)).get(id));
                 }
             }
 
@@ -278,6 +331,37 @@ public class JobsRestController {
         }
     }
 
+    // Applied/saved status for a whole page of jobs in one round trip, keyed by job ID
+    @PostMapping("/status")
+    public ResponseEntity<ApiResponse<Map<Integer, Map<String, Boolean>>>> checkJobStatuses(@RequestBody List<Integer> jobIds) {
+        try {
+            if (jobIds == null || jobIds.size() > MAX_PAGE_SIZE) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, "Between 0 and " + MAX_PAGE_SIZE + " job IDs are allowed", null));
+            }
+            Set<Integer> ids = new LinkedHashSet<>(jobIds);
+            ids.remove(null);
+
+            Map<Integer, Map<String, Boolean>> statuses = new LinkedHashMap<>();
+            Users currentUser = usersService.getCurrentUser();
+            Object profile = currentUser != null && "Job Seeker".equals(currentUser.getUserTypeId().getUserTypeName())
+                ? usersService.getCurrentUserProfile() : null;
+            if (profile instanceof JobSeekerProfile) {
+                statuses.putAll(jobStatusService.getStatuses((JobSeekerProfile) profile, ids));
+            } else {
+                for (Integer id : ids) {
+                    statuses.put(id, Map.of(JobStatusService.APPLIED, false, JobStatusService.SAVED, false));
+                }
+            }
+
+            return ResponseEntity.ok(new ApiResponse<>(true, "Job statuses retrieved", statuses));
+        } catch (Exception e) {
+            logger.error("Error checking job statuses", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ApiResponse<>(false, "Error checking job statuses", null));
+        }
+    }
+
     // Get candidates for a job - Frontend compatibility
     @GetMapping("/{id}/candidates")
     @PreAuthorize("hasAuthority('Recruiter')")
@@ -483,11 +567,7 @@ public class JobsRestController {
             JobSeekerProfile seekerProfile = (JobSeekerProfile) profile;
 
             // Check if already applied
-            List<JobSeekerApply> existingApplications = jobSeekerApplyService.getCandidatesJobs(seekerProfile);
-            boolean hasApplied = existingApplications.stream()
-                .anyMatch(apply -> Objects.equals(apply.getJob().getJobPostId(), id));
-
-            if (hasApplied) {
+            if (jobStatusService.hasApplied(seekerProfile, id)) {
                 return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(new ApiResponse<>(false, "You have already applied for this job", null));
             }
@@ -528,11 +608,7 @@ public class JobsRestController {
             JobSeekerProfile seekerProfile = (JobSeekerProfile) profile;
 
             // Check if already saved
-            List<JobSeekerSave> savedJobs = jobSeekerSaveService.getCandidatesJob(seekerProfile);
-            boolean hasSaved = savedJobs.stream()
-                .anyMatch(save -> Objects.equals(save.getJob().getJobPostId(), id));
-
-            if (hasSaved) {
+            if (jobStatusService.hasSaved(seekerProfile, id)) {
                 return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(new ApiResponse<>(false, "Job is already saved", null));
             }
@@ -586,36 +662,42 @@ public class JobsRestController {
         }
     }
 
-    private JobResponse convertToJobResponse(JobPostActivity job) {
-        JobResponse response = new JobResponse();
-        response.setJobPostId(job.getJobPostId());
-        response.setJobTitle(job.getJobTitle());
-        response.setDescriptionOfJob(job.getDescriptionOfJob());
-        response.setJobType(job.getJobType());
-        response.setSalary(job.getSalary());
-        response.setRemote(job.getRemote());
-        response.setPostedDate(job.getPostedDate());
-        
-        // FIXED: Properly set postedBy information using RecruiterInfo class
-        if (job.getPostedById() != null) {
-            JobResponse.RecruiterInfo recruiterInfo = new JobResponse.RecruiterInfo(
-                job.getPostedById().getUserId(),
-                job.getPostedById().getFirstName(),
-                job.getPostedById().getLastName(),
-                job.getPostedById().getEmail()
-            );
-            response.setPostedBy(recruiterInfo);
-            response.setPostedByEmail(job.getPostedById().getEmail());
-        }
-        
-        if (job.getJobLocationId() != null) {
-            response.setJobLocation(job.getJobLocationId().getCity() + ", " + job.getJobLocationId().getCountry());
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private CachedJobPage toCachedPage(JobPage page, int pageSize) {
+        return new CachedJobPage(page.getJobs(), new PageInfo(page.getNextCursor(), pageSize, page.getTotalEstimate()),
+            page.getFacets());
+    }
+
+    private ApiResponse<List<JobResponse>> toPageResponse(String message, CachedJobPage page) {
+        ApiResponse<List<JobResponse>> response = new ApiResponse<>(true, message, annotateForCurrentSeeker(page.getJobs()));
+        response.setPage(page.getPage());
+        response.setFacets(page.getFacets());
+        return response;
+    }
+
+    // Job seekers see their applied/saved flags on list pages; cached pages are shared, so this annotates copies
+    private List<JobResponse> annotateForCurrentSeeker(List<JobResponse> jobs) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || jobs.isEmpty()
+                || !authentication.getAuthorities().contains(new SimpleGrantedAuthority("Job Seeker"))) {
+            return jobs;
         }
-        
-        if (job.getJobCompanyId() != null) {
-            response.setCompanyName(job.getJobCompanyId().getName());
+        try {
+            Object profile = usersService.getCurrentUserProfile();
+            if (profile instanceof JobSeekerProfile) {
+                return jobStatusService.annotateResponses((JobSeekerProfile) profile, jobs);
+            }
+        } catch (Exception e) {
+            logger.debug("Could not resolve job seeker for list annotation", e);
         }
-        
-        return response;
+        return jobs;
+    }
+
+    // Package-private for the response mapping benchmarks
+    static JobResponse convertToJobResponse(JobPostActivity job) {
+        return JobResponse.of(job);
     }
 }
\ No newline at end of file
@@ -2,14 +2,16 @@ package com.jobportal.api;
 
 import com.jobportal.dto.ApiResponse;
 import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.PageInfo;
+import com.jobportal.dto.SavedJobResponse;
 import com.jobportal.entity.JobSeekerProfile;
-import com.jobportal.entity.JobSeekerSave;
 import com.jobportal.entity.Users;
 import com.jobportal.services.JobSeekerSaveService;
 import com.jobportal.services.UsersService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -35,6 +37,8 @@ public class SavedJobsRestController {
 
     private static final Logger logger = LoggerFactory.getLogger(SavedJobsRestController.class);
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private UsersService usersService;
 
@@ -67,53 +71,21 @@ public class SavedJobsRestController {
             }
 
             JobSeekerProfile seekerProfile = (JobSeekerProfile) profile;
-            
-            // Get all saved jobs for this job seeker
-            List<JobSeekerSave> savedJobs = jobSeekerSaveService.getCandidatesJob(seekerProfile);
-            
-            // Convert to JobResponse format - ensure we return empty list if no jobs
-            List<Map<String, Object>> jobResponses = savedJobs != null ? 
-                savedJobs.stream()
-                    .map(this::convertSavedJobToResponse)
-                    .collect(Collectors.toList()) :
-                new ArrayList<>();
-
-            // Apply filters
-            if (search != null && !search.trim().isEmpty()) {
-                String searchTerm = search.toLowerCase().trim();
-                jobResponses = jobResponses.stream()
-                    .filter(job -> {
-                        String title = (String) job.get("jobTitle");
-                        String company = (String) job.get("companyName");
-                        String location = (String) job.get("jobLocation");
-                        return (title != null && title.toLowerCase().contains(searchTerm)) ||
-                               (company != null && company.toLowerCase().contains(searchTerm)) ||
-                               (location != null && location.toLowerCase().contains(searchTerm));
-                    })
-                    .collect(Collectors.toList());
-            }
-
-            if (type != null && !type.trim().isEmpty()) {
-                jobResponses = jobResponses.stream()
-                    .filter(job -> type.equals(job.get("jobType")))
-                    .collect(Collectors.toList());
-            }
-
-            if (remote != null && !remote.trim().isEmpty()) {
-                jobResponses = jobResponses.stream()
-                    .filter(job -> {
-                        String remoteValue = (String) job.get("remote");
-                        if ("true".equals(remote)) {
-                            return "Remote-Only".equals(remoteValue) || "Partial-Remote".equals(remoteValue);
-                        } else {
-                            return "Office-Only".equals(remoteValue);
-                        }
-                    })
-                    .collect(Collectors.toList());
-            }
-
-            // Return the jobs list directly (frontend expects data to be the array)
-            return ResponseEntity.ok(new ApiResponse<>(true, "Saved jobs retrieved successfully", jobResponses));
+            int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            Page<SavedJobResponse> savedJobs = jobSeekerSaveService.getSavedJobs(seekerProfile, search, type, remote,
+                applied, sortBy, sortOrder, page, pageSize);
+
+            List<Map<String, Object>> jobResponses = savedJobs.getContent().stream()
+                .map(SavedJobsRestController::convertSavedJobToResponse)
+                .collect(Collectors.toList());
+
+            // Return the jobs list directly (frontend expects data to be the array); page.nextPage holds
+            // the next value for the page parameter
+            ApiResponse<List<Map<String, Object>>> response =
+                new ApiResponse<>(true, "Saved jobs retrieved successfully", jobResponses);
+            response.setPage(PageInfo.ofPage(savedJobs.getNumber() + 1, savedJobs.getTotalPages(), pageSize,
+                savedJobs.getTotalElements()));
+            return ResponseEntity.ok(response);
 
         } catch (Exception e) {
             logger.error("Error retrieving saved jobs", e);
@@ -139,9 +111,9 @@ public class SavedJobsRestController {
             }
 
             JobSeekerProfile seekerProfile = (JobSeekerProfile) profile;
-            List<JobSeekerSave> savedJobs = jobSeekerSaveService.getCandidatesJob(seekerProfile);
-            
-            return ResponseEntity.ok(new ApiResponse<>(true, "Saved jobs count retrieved", savedJobs.size()));
+            int count = (int) jobSeekerSaveService.countSavedJobs(seekerProfile);
+
+            return ResponseEntity.ok(new ApiResponse<>(true, "Saved jobs count retrieved", count));
 
         } catch (Exception e) {
             logger.error("Error retrieving saved jobs count", e);
@@ -150,49 +122,48 @@ public class SavedJobsRestController {
         }
     }
 
-    private Map<String, Object> convertSavedJobToResponse(JobSeekerSave savedJob) {
+    // Package-private for the response mapping benchmarks
+    static Map<String, Object> convertSavedJobToResponse(SavedJobResponse savedJob) {
         Map<String, Object> response = new HashMap<>();
-        
-        if (savedJob.getJob() != null) {
-            response.put("id", savedJob.getJob().getJobPostId());
-            response.put("jobPostId", savedJob.getJob().getJobPostId());
-            response.put("jobTitle", savedJob.getJob().getJobTitle());
-            response.put("descriptionOfJob", savedJob.getJob().getDescriptionOfJob());
-            response.put("jobType", savedJob.getJob().getJobType());
-            response.put("salary", savedJob.getJob().getSalary());
-            response.put("remote", savedJob.getJob().getRemote());
-            response.put("postedDate", savedJob.getJob().getPostedDate());
-            
-            // Add location information
-            if (savedJob.getJob().getJobLocationId() != null) {
-                response.put("jobLocation", savedJob.getJob().getJobLocationId().getCity() + ", " + 
-                           savedJob.getJob().getJobLocationId().getCountry());
-                response.put("location", response.get("jobLocation"));
-            }
-            
-            // Add company information
-            if (savedJob.getJob().getJobCompanyId() != null) {
-                response.put("companyName", savedJob.getJob().getJobCompanyId().getName());
-                response.put("company", savedJob.getJob().getJobCompanyId().getName());
-            }
-            
-            // Add poster information
-            if (savedJob.getJob().getPostedById() != null) {
-                Map<String, Object> postedBy = new HashMap<>();
-                postedBy.put("userId", savedJob.getJob().getPostedById().getUserId());
-                postedBy.put("firstName", savedJob.getJob().getPostedById().getFirstName());
-                postedBy.put("lastName", savedJob.getJob().getPostedById().getLastName());
-                postedBy.put("email", savedJob.getJob().getPostedById().getEmail());
-                response.put("postedBy", postedBy);
-                response.put("postedByEmail", savedJob.getJob().getPostedById().getEmail());
-            }
+        JobResponse job = savedJob.getJob();
+
+        response.put("id", job.getJobPostId());
+        response.put("jobPostId", job.getJobPostId());
+        response.put("jobTitle", job.getJobTitle());
+        response.put("descriptionOfJob", job.getDescriptionOfJob());
+        response.put("jobType", job.getJobType());
+        response.put("salary", job.getSalary());
+        response.put("remote", job.getRemote());
+        response.put("postedDate", job.getPostedDate());
+
+        // Add location information
+        if (job.getJobLocation() != null) {
+            response.put("jobLocation", job.getJobLocation());
+            response.put("location", job.getJobLocation());
         }
-        
+
+        // Add company information
+        if (job.getCompanyName() != null) {
+            response.put("companyName", job.getCompanyName());
+            response.put("company", job.getCompanyName());
+        }
+
+        // Add poster information
+        if (job.getPostedBy() != null) {
+            Map<String, Object> postedBy = new HashMap<>();
+            postedBy.put("userId", job.getPostedBy().getUserId());
+            postedBy.put("firstName", job.getPostedBy().getFirstName());
+            postedBy.put("lastName", job.getPostedBy().getLastName());
+            postedBy.put("email", job.getPostedBy().getEmail());
+            response.put("postedBy", postedBy);
+            response.put("postedByEmail", job.getPostedByEmail());
+        }
+
         // Add saved job specific info
-        response.put("savedAt", savedJob.getId()); // Using save ID as savedAt placeholder
+        response.put("savedAt", savedJob.getSaveId()); // Using save ID as savedAt placeholder
         response.put("isSaved", true);
-        response.put("isApplied", false); // TODO: Check if user has applied to this job
-        
+        response.put("isApplied", savedJob.isApplied());
+
         return response;
     }
-}
\ No newline at end of file
+}
@@ -1,63 +1,70 @@
 package com.jobportal.api;
 
-import com.jobportal.entity.JobCompany;
-import com.jobportal.entity.JobPostActivity;
-import com.jobportal.repository.JobCompanyRepository;
-import com.jobportal.repository.JobPostActivityRepository;
+import com.jobportal.services.SitemapService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.Optional;
 
 @RestController
 public class SitemapRestController {
 
-    @Autowired
-    private JobPostActivityRepository jobRepository;
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
 
     @Autowired
-    private JobCompanyRepository companyRepository;
-
-    @GetMapping(value = "/sitemap.xml", produces = "application/xml")
-    public String generateSitemap() {
-        String baseUrl = "https://www.zplusejobs.com";
-        StringBuilder xmlBuilder = new StringBuilder();
-
-        xmlBuilder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-        xmlBuilder.append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
-
-        // Static routes
-        String[] staticRoutes = {"", "/jobs", "/login", "/register"};
-        for (String route : staticRoutes) {
-            xmlBuilder.append("  <url>\n");
-            xmlBuilder.append("    <loc>").append(baseUrl).append(route).append("</loc>\n");
-            xmlBuilder.append("    <changefreq>daily</changefreq>\n");
-            xmlBuilder.append("    <priority>1.0</priority>\n");
-            xmlBuilder.append("  </url>\n");
-        }
+    private SitemapService sitemapService;
 
-        // Dynamic Job Routes
-        List<JobPostActivity> jobs = jobRepository.findAll();
-        for (JobPostActivity job : jobs) {
-            xmlBuilder.append("  <url>\n");
-            xmlBuilder.append("    <loc>").append(baseUrl).append("/jobs/").append(job.getJobPostId()).append("</loc>\n");
-            xmlBuilder.append("    <changefreq>weekly</changefreq>\n");
-            xmlBuilder.append("    <priority>0.8</priority>\n");
-            xmlBuilder.append("  </url>\n");
-        }
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> getSitemapIndex(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toResponse(sitemapService.getIndex(), acceptEncoding);
+    }
 
-        // Dynamic Company Routes
-        List<JobCompany> companies = companyRepository.findAllByOrderByNameAsc();
-        for (JobCompany company : companies) {
-            xmlBuilder.append("  <url>\n");
-            xmlBuilder.append("    <loc>").append(baseUrl).append("/companies/").append(company.getId()).append("</loc>\n");
-            xmlBuilder.append("    <changefreq>weekly</changefreq>\n");
-            xmlBuilder.append("    <priority>0.7</priority>\n");
-            xmlBuilder.append("  </url>\n");
-        }
+    @GetMapping("/sitemap-pages.xml")
+    public ResponseEntity<byte[]> getPagesSitemap(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toResponse(sitemapService.getPages(), acceptEncoding);
+    }
 
-        xmlBuilder.append("</urlset>");
-        return xmlBuilder.toString();
+    @GetMapping("/sitemap-jobs-{number:\\d+}.xml")
+    public ResponseEntity<byte[]> getJobsSitemap(@PathVariable int number,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toResponse(sitemapService.getJobs(number), acceptEncoding);
+    }
+
+    @GetMapping("/sitemap-companies-{number:\\d+}.xml")
+    public ResponseEntity<byte[]> getCompaniesSitemap(@PathVariable int number,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return toResponse(sitemapService.getCompanies(number), acceptEncoding);
+    }
+
+    private static ResponseEntity<byte[]> toResponse(Optional<SitemapService.Document> document, String acceptEncoding) {
+        return document.map(found -> toResponse(found, acceptEncoding))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // Spring answers If-None-Match / If-Modified-Since with 304 from the ETag and Last-Modified set here
+    private static ResponseEntity<byte[]> toResponse(SitemapService.Document document, String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_XML)
+            .cacheControl(CACHE_CONTROL)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .lastModified(document.getLastModified());
+        if (gzip) {
+            // The encoded variant needs its own validator
+            return response.eTag(document.getEtag() + "-gz")
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(document.getGzipped());
+        }
+        return response.eTag(document.getEtag()).body(document.getXml());
     }
 }
@@ -1,6 +1,10 @@
 package com.jobportal.config;
 
 import com.jobportal.services.CustomUserDetailsService;
+import com.jobportal.services.TokenRevocationService;
+import com.jobportal.services.TokenVersionService;
+import com.jobportal.util.JwtUserDetails;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +12,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -30,6 +35,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    // Build the principal from the token's claims instead of loading the user on every request
+    @Value("${app.jwt.stateless-auth:true}")
+    private boolean statelessAuth;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -37,14 +52,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.extractUsername(jwt);
+            // Parsed and verified once; expiry is checked by the parser (or the verified-token cache)
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.verify(jwt) : null;
+            if (claims != null && claims.getId() != null && tokenRevocationService.isRevoked(claims.getId())) {
+                logger.debug("Rejected revoked token for user: {}", claims.getSubject());
+                claims = null;
+            }
+            if (claims != null) {
+                String username = claims.getSubject();
                 
                 if (StringUtils.hasText(username)) {
                     try {
-                        UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+                        UserDetails userDetails = loadUserDetails(username, claims);
                         
-                        if (userDetails != null && tokenProvider.validateToken(jwt, userDetails)) {
+                        if (userDetails != null && username.equals(userDetails.getUsername())) {
                             UsernamePasswordAuthenticationToken authentication = 
                                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -67,6 +88,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * The principal for a verified token: rebuilt from its claims when they are all present and its
+     * version is still current, loaded from the database for tokens issued without them, and null
+     * for a revoked token
+     */
+    private UserDetails loadUserDetails(String username, Claims claims) {
+        Number userId = claims.get(JwtTokenProvider.USER_ID, Number.class);
+        String userType = claims.get(JwtTokenProvider.USER_TYPE, String.class);
+        Number tokenVersion = claims.get(JwtTokenProvider.TOKEN_VERSION, Number.class);
+
+        if (userId == null || tokenVersion == null) {
+            return customUserDetailsService.loadUserByUsername(username);
+        }
+        if (!tokenVersionService.isCurrent(userId.intValue(), tokenVersion.intValue())) {
+            logger.debug("Rejected revoked token for user: {}", username);
+            return null;
+        }
+        if (!statelessAuth || !StringUtils.hasText(userType)) {
+            return customUserDetailsService.loadUserByUsername(username);
+        }
+        return new JwtUserDetails(userId.intValue(), username, userType);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -83,14 +127,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Log the path for debugging
         logger.debug("Checking filter for path: {} with method: {}", path, method);
         
-        // Exclude authentication endpoints, public API paths, and static assets
+        // Exclude authentication endpoints, public API paths, and static assets. The public job listings
+        // (/api/jobs, /api/jobs/search) are still filtered: a valid token there is optional and only adds the
+        // seeker's applied/saved flags, while a missing, invalid or revoked one leaves the request anonymous.
         if (path.startsWith("/api/auth/login") || 
             path.startsWith("/api/auth/register") ||
             path.startsWith("/api/auth/logout") ||
+            path.startsWith("/api/auth/refresh") ||
             path.startsWith("/api/register/") ||
             path.startsWith("/api/public/") ||
-            path.equals("/api/jobs") ||
-            path.startsWith("/api/jobs/search") ||
             path.startsWith("/api/companies/") ||
             path.startsWith("/actuator/") ||
             path.startsWith("/swagger-ui/") ||
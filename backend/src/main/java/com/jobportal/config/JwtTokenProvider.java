@@ -1,8 +1,12 @@
 package com.jobportal.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,14 +14,27 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenProvider {
 
+    public static final String USER_ID = "userId";
+    public static final String USER_TYPE = "userType";
+    public static final String TOKEN_VERSION = "tokenVersion";
+    public static final String TOKEN_TYPE = "typ";
+    public static final String REFRESH = "refresh";
+    public static final String FAMILY_ID = "fid";
+
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
     @Value("${app.jwt.secret}")
@@ -29,9 +46,113 @@ public class JwtTokenProvider {
     @Value("${app.jwt.refresh-expiration}")
     private long refreshExpirationInMs;
 
+    // Verified tokens are remembered (by SHA-256 of the token) until they expire
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(new Expiry<String, Claims>() {
+                @Override
+                public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                    Date expiration = claims.getExpiration();
+                    long remainingMs = expiration != null ? expiration.getTime() - System.currentTimeMillis() : 0;
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    @PostConstruct
+    void init() {
+        // Decoding the secret and building the parser once; both are immutable and thread-safe
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
+    }
+
+    /**
+     * Parse and verify an access token once, returning its claims, or null if it is invalid, expired
+     * or a refresh token. A token seen before is answered from the cache without repeating the
+     * signature check.
+     */
+    public Claims verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String key = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (cached.getExpiration() != null && cached.getExpiration().after(new Date())) {
+                return cached;
+            }
+            verifiedTokens.invalidate(key);
+            return null;
+        }
+        Claims claims = parse(token);
+        if (claims == null || isRefreshToken(claims)) {
+            return null;
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(key, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * Verify a refresh token's signature and expiry, returning its claims, or null if it is invalid
+     * or not a refresh token. Not cached: each refresh token is presented once.
+     */
+    public Claims verifyRefreshToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        Claims claims = parse(token);
+        return claims != null && isRefreshToken(claims) ? claims : null;
+    }
+
+    private static boolean isRefreshToken(Claims claims) {
+        return REFRESH.equals(claims.get(TOKEN_TYPE, String.class));
+    }
+
+    private Claims parse(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (SecurityException ex) {
+            logger.error("Invalid JWT signature: {}", ex.getMessage());
+        } catch (MalformedJwtException ex) {
+            logger.error("Invalid JWT token: {}", ex.getMessage());
+        } catch (ExpiredJwtException ex) {
+            logger.error("Expired JWT token: {}", ex.getMessage());
+        } catch (UnsupportedJwtException ex) {
+            logger.error("Unsupported JWT token: {}", ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            logger.error("JWT claims string is empty: {}", ex.getMessage());
+        }
+        return null;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -39,16 +160,19 @@ public class JwtTokenProvider {
         return createToken(claims, userDetails.getUsername());
     }
 
-    public String generateToken(String username, String userType, Long userId) {
+    public String generateToken(String username, String userType, Long userId, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userType", userType);
-        claims.put("userId", userId);
+        claims.put(USER_TYPE, userType);
+        claims.put(USER_ID, userId);
+        claims.put(TOKEN_VERSION, tokenVersion);
         return createToken(claims, username);
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .claims(claims)
+                // Unique ID so the token can be revoked on its own (see TokenRevocationService)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationInMs))
@@ -56,9 +180,20 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String generateRefreshToken(String username) {
+    /**
+     * A refresh token carrying what is needed to mint the next access token, plus its own ID and the
+     * ID of the rotation family it belongs to
+     */
+    public String generateRefreshToken(String username, String userType, Long userId, int tokenVersion,
+                                       String tokenId, String familyId) {
         return Jwts.builder()
+                .id(tokenId)
                 .subject(username)
+                .claim(TOKEN_TYPE, REFRESH)
+                .claim(FAMILY_ID, familyId)
+                .claim(USER_TYPE, userType)
+                .claim(USER_ID, userId)
+                .claim(TOKEN_VERSION, tokenVersion)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + refreshExpirationInMs))
                 .signWith(getSigningKey(), Jwts.SIG.HS256)
@@ -74,11 +209,11 @@ public class JwtTokenProvider {
     }
 
     public String extractUserType(String token) {
-        return extractClaim(token, claims -> claims.get("userType", String.class));
+        return extractClaim(token, claims -> claims.get(USER_TYPE, String.class));
     }
 
     public Long extractUserId(String token) {
-        return extractClaim(token, claims -> claims.get("userId", Long.class));
+        return extractClaim(token, claims -> claims.get(USER_ID, Long.class));
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -87,11 +222,7 @@ public class JwtTokenProvider {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public Boolean isTokenExpired(String token) {
@@ -99,32 +230,19 @@ public class JwtTokenProvider {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        Claims claims = verify(token);
+        return claims != null && userDetails.getUsername().equals(claims.getSubject());
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException ex) {
-            logger.error("Invalid JWT signature: {}", ex.getMessage());
-        } catch (MalformedJwtException ex) {
-            logger.error("Invalid JWT token: {}", ex.getMessage());
-        } catch (ExpiredJwtException ex) {
-            logger.error("Expired JWT token: {}", ex.getMessage());
-        } catch (UnsupportedJwtException ex) {
-            logger.error("Unsupported JWT token: {}", ex.getMessage());
-        } catch (IllegalArgumentException ex) {
-            logger.error("JWT claims string is empty: {}", ex.getMessage());
-        }
-        return false;
+        return verify(token) != null;
     }
 
     public long getExpirationTime() {
         return jwtExpirationInMs;
     }
+
+    public long getRefreshExpirationTime() {
+        return refreshExpirationInMs;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.jobportal.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,7 +10,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -20,8 +20,11 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.jobportal.security.BoundedPasswordEncoder;
 import com.jobportal.services.CustomUserDetailsService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.util.Arrays;
 import java.util.List;
 
@@ -48,7 +51,7 @@ public class SecurityConfig {
         "/static/**", "/public/**", "/img/**",
         "/font-awesome/**", "/bootstrap/**", "/jquery/**",
         // Auth endpoints — always public
-        "/api/auth/login", "/api/auth/register", "/api/auth/logout",
+        "/api/auth/login", "/api/auth/register", "/api/auth/logout", "/api/auth/refresh",
         // Company Profile endpoints
         "/api/companies/**",
         // Swagger/OpenAPI
@@ -59,12 +62,18 @@ public class SecurityConfig {
     // DO NOT add /api/jobs/* here — that would match apply/save/candidates!
     private final String[] PUBLIC_JOBS_URLS = {
         "/api/jobs",
-        "/api/jobs/search"
+        "/api/jobs/search",
+        "/api/jobs/suggest"
     };
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:12}") int strength,
+                                           @Value("${app.security.bcrypt.threads:0}") int threads,
+                                           @Value("${app.security.bcrypt.queue-capacity:32}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+        // Default to one hashing thread per core; more would only make each hash slower
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(strength, poolSize, queueCapacity, meterRegistry);
     }
 
     @Bean
@@ -192,6 +201,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/applications/**").authenticated()
                 .requestMatchers("/api/jobs/{id}/candidates").authenticated()
                 .requestMatchers("/api/jobs/{id}/status").authenticated()
+                .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/jobs/status").authenticated()
                 .requestMatchers("/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/**").authenticated()
                 .anyRequest().permitAll()
@@ -0,0 +1,61 @@
+package com.jobportal.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Support for running requests on virtual threads ({@code spring.threads.virtual.enabled=true}, which
+ * Spring Boot applies to Tomcat and its task executors).
+ *
+ * Request concurrency is then no longer capped by {@code server.tomcat.threads.max}, so the DataSource
+ * is wrapped in a {@link PermitLimitedDataSource} that admits callers to the connection pool in order,
+ * at most {@code app.db.max-concurrency} at a time (default: the Hikari pool size).
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final int DEFAULT_HIKARI_POOL_SIZE = 10;
+
+    // Static so it is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor dbPermitDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof PermitLimitedDataSource) {
+                    return bean;
+                }
+                int permits = environment.getProperty("app.db.max-concurrency", Integer.class, 0);
+                if (permits <= 0) {
+                    permits = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class,
+                            DEFAULT_HIKARI_POOL_SIZE);
+                }
+                long timeoutMs = environment.getProperty("app.db.permit-timeout-ms", Long.class, 20_000L);
+                return new PermitLimitedDataSource(dataSource, permits, timeoutMs);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dbPermitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof PermitLimitedDataSource permits) {
+                Gauge.builder("db.permits.available", permits, PermitLimitedDataSource::getAvailablePermits)
+                        .description("Database permits free for new connections")
+                        .register(registry);
+                Gauge.builder("db.permits.waiting", permits, PermitLimitedDataSource::getWaiting)
+                        .description("Callers waiting for a database permit")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -1,15 +1,12 @@
 package com.jobportal.controllers;
 
 import com.jobportal.entity.JobPostActivity;
-import com.jobportal.entity.JobSeekerApply;
 import com.jobportal.entity.JobSeekerProfile;
-import com.jobportal.entity.JobSeekerSave;
 import com.jobportal.entity.RecruiterJobsDto;
 import com.jobportal.entity.RecruiterProfile;
 import com.jobportal.entity.Users;
 import com.jobportal.services.JobPostActivityService;
-import com.jobportal.services.JobSeekerApplyService;
-import com.jobportal.services.JobSeekerSaveService;
+import com.jobportal.services.JobStatusService;
 import com.jobportal.services.UsersService;
 
 import org.slf4j.Logger;
@@ -43,15 +40,13 @@ public class JobPostActivityController {
 
     private final UsersService usersService;
     private final JobPostActivityService jobPostActivityService;
-    private final JobSeekerApplyService jobSeekerApplyService;
-    private final JobSeekerSaveService jobSeekerSaveService;
+    private final JobStatusService jobStatusService;
 
     @Autowired
-    public JobPostActivityController(UsersService usersService, JobPostActivityService jobPostActivityService, JobSeekerApplyService jobSeekerApplyService, JobSeekerSaveService jobSeekerSaveService) {
+    public JobPostActivityController(UsersService usersService, JobPostActivityService jobPostActivityService, JobStatusService jobStatusService) {
         this.usersService = usersService;
         this.jobPostActivityService = jobPostActivityService;
-        this.jobSeekerApplyService = jobSeekerApplyService;
-        this.jobSeekerSaveService = jobSeekerSaveService;
+        this.jobStatusService = jobStatusService;
     }
 
     @GetMapping("/dashboard/")
@@ -135,41 +130,8 @@ public class JobPostActivityController {
                 List<RecruiterJobsDto> recruiterJobs = jobPostActivityService.getRecruiterJobs(((RecruiterProfile) currentUserProfile).getUserAccountId());
                 model.addAttribute("jobPost", recruiterJobs);
             } else {
-                List<JobSeekerApply> jobSeekerApplyList = jobSeekerApplyService.getCandidatesJobs((JobSeekerProfile) currentUserProfile);
-                List<JobSeekerSave> jobSeekerSaveList = jobSeekerSaveService.getCandidatesJob((JobSeekerProfile) currentUserProfile);
-
-                boolean exist;
-                boolean saved;
-
-                for (JobPostActivity jobActivity : jobPost) {
-                    exist = false;
-                    saved = false;
-                    for (JobSeekerApply jobSeekerApply : jobSeekerApplyList) {
-                        if (Objects.equals(jobActivity.getJobPostId(), jobSeekerApply.getJob().getJobPostId())) {
-                            jobActivity.setIsActive(true);
-                            exist = true;
-                            break;
-                        }
-                    }
-
-                    for (JobSeekerSave jobSeekerSave : jobSeekerSaveList) {
-                        if (Objects.equals(jobActivity.getJobPostId(), jobSeekerSave.getJob().getJobPostId())) {
-                            jobActivity.setIsSaved(true);
-                            saved = true;
-                            break;
-                        }
-                    }
-
-                    if (!exist) {
-                        jobActivity.setIsActive(false);
-                    }
-                    if (!saved) {
-                        jobActivity.setIsSaved(false);
-                    }
-
-                    model.addAttribute("jobPost", jobPost);
-
-                }
+                jobStatusService.annotate((JobSeekerProfile) currentUserProfile, jobPost);
+                model.addAttribute("jobPost", jobPost);
             }
         }
 
@@ -371,18 +333,7 @@ public class JobPostActivityController {
                 if (authentication.getAuthorities().contains(new SimpleGrantedAuthority("Job Seeker"))) {
                     JobSeekerProfile jobSeekerProfile = (JobSeekerProfile) currentUserProfile;
                     
-                    // Check if user has applied for this job
-                    List<JobSeekerApply> jobSeekerApplyList = jobSeekerApplyService.getCandidatesJobs(jobSeekerProfile);
-                    boolean hasApplied = jobSeekerApplyList.stream()
-                        .anyMatch(apply -> Objects.equals(apply.getJob().getJobPostId(), id));
-                    
-                    // Check if user has saved this job
-                    List<JobSeekerSave> jobSeekerSaveList = jobSeekerSaveService.getCandidatesJob(jobSeekerProfile);
-                    boolean hasSaved = jobSeekerSaveList.stream()
-                        .anyMatch(save -> Objects.equals(save.getJob().getJobPostId(), id));
-                    
-                    jobPostActivity.setIsActive(hasApplied);
-                    jobPostActivity.setIsSaved(hasSaved);
+                    jobStatusService.annotate(jobSeekerProfile, List.of(jobPostActivity));
                 }
             }
             
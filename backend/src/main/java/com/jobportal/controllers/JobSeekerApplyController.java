@@ -5,7 +5,6 @@ import com.jobportal.entity.JobSeekerApply;
 import com.jobportal.entity.JobSeekerProfile;
 import com.jobportal.entity.JobSeekerSave;
 import com.jobportal.entity.RecruiterProfile;
-import com.jobportal.entity.Users;
 import com.jobportal.services.JobPostActivityService;
 import com.jobportal.services.JobSeekerApplyService;
 import com.jobportal.services.JobSeekerProfileService;
@@ -96,9 +95,7 @@ public class JobSeekerApplyController {
     public String apply(@PathVariable("id") int id, JobSeekerApply jobSeekerApply) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (!(authentication instanceof AnonymousAuthenticationToken)) {
-            String currentUsername = authentication.getName();
-            Users user = usersService.findByEmail(currentUsername);
-            Optional<JobSeekerProfile> seekerProfile = jobSeekerProfileService.getOne(user.getUserId());
+            Optional<JobSeekerProfile> seekerProfile = Optional.ofNullable(jobSeekerProfileService.getCurrentSeekerProfile());
             JobPostActivity jobPostActivity = jobPostActivityService.getOne(id);
             if (seekerProfile.isPresent() && jobPostActivity != null) {
                 jobSeekerApply = new JobSeekerApply();
@@ -36,8 +36,8 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import com.jobportal.entity.JobSeekerProfile;
 import com.jobportal.entity.Skills;
 import com.jobportal.entity.Users;
-import com.jobportal.repository.UsersRepository;
 import com.jobportal.services.JobSeekerProfileService;
+import com.jobportal.services.UsersService;
 import com.jobportal.util.FileDownloadUtil;
 import com.jobportal.util.FileUploadUtil;
 
@@ -52,12 +52,12 @@ public class JobSeekerProfileController {
     private static final String[] ALLOWED_IMAGE_TYPES = {"image/jpeg", "image/jpg", "image/png", "image/gif"};
 
     private JobSeekerProfileService jobSeekerProfileService;
-    private UsersRepository usersRepository;
+    private UsersService usersService;
 
     @Autowired
-    public JobSeekerProfileController(JobSeekerProfileService jobSeekerProfileService, UsersRepository usersRepository) {
+    public JobSeekerProfileController(JobSeekerProfileService jobSeekerProfileService, UsersService usersService) {
         this.jobSeekerProfileService = jobSeekerProfileService;
-        this.usersRepository = usersRepository;
+        this.usersService = usersService;
     }
 
     @GetMapping("/")
@@ -68,8 +68,7 @@ public class JobSeekerProfileController {
             List<Skills> skills = new ArrayList<>();
 
             if (!(authentication instanceof AnonymousAuthenticationToken)) {
-                Users user = usersRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found."));
+                Users user = usersService.getCurrentUser();
                 
                 Optional<JobSeekerProfile> seekerProfile = jobSeekerProfileService.getOne(user.getUserId());
                 if (seekerProfile.isPresent()) {
@@ -122,8 +121,7 @@ public class JobSeekerProfileController {
                 return "redirect:/login";
             }
 
-            Users user = usersRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new UsernameNotFoundException("User not found."));
+            Users user = usersService.getCurrentUser();
             
             jobSeekerProfile.setUserId(user);
             jobSeekerProfile.setUserAccountId(user.getUserId());
@@ -12,7 +12,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import com.jobportal.entity.JobPostActivity;
 import com.jobportal.entity.JobSeekerProfile;
 import com.jobportal.entity.JobSeekerSave;
-import com.jobportal.entity.Users;
 import com.jobportal.services.JobPostActivityService;
 import com.jobportal.services.JobSeekerProfileService;
 import com.jobportal.services.JobSeekerSaveService;
@@ -40,9 +39,7 @@ public class JobSeekerSaveController {
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (!(authentication instanceof AnonymousAuthenticationToken)) {
-            String currentUsername = authentication.getName();
-            Users user = usersService.findByEmail(currentUsername);
-            Optional<JobSeekerProfile> seekerProfile = jobSeekerProfileService.getOne(user.getUserId());
+            Optional<JobSeekerProfile> seekerProfile = Optional.ofNullable(jobSeekerProfileService.getCurrentSeekerProfile());
             JobPostActivity jobPostActivity = jobPostActivityService.getOne(id);
             if (seekerProfile.isPresent() && jobPostActivity != null) {
                 jobSeekerSave.setJob(jobPostActivity);
@@ -2,13 +2,12 @@ package com.jobportal.controllers;
 
 import com.jobportal.entity.RecruiterProfile;
 import com.jobportal.entity.Users;
-import com.jobportal.repository.UsersRepository;
 import com.jobportal.services.RecruiterProfileService;
+import com.jobportal.services.UsersService;
 import com.jobportal.util.FileUploadUtil;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StringUtils;
@@ -25,11 +24,11 @@ import java.util.Optional;
 @RequestMapping("/recruiter-profile")
 public class RecruiterProfileController {
 
-    private final UsersRepository usersRepository;
+    private final UsersService usersService;
     private final RecruiterProfileService recruiterProfileService;
 
-    public RecruiterProfileController(UsersRepository usersRepository, RecruiterProfileService recruiterProfileService) {
-        this.usersRepository = usersRepository;
+    public RecruiterProfileController(UsersService usersService, RecruiterProfileService recruiterProfileService) {
+        this.usersService = usersService;
         this.recruiterProfileService = recruiterProfileService;
     }
 
@@ -39,8 +38,7 @@ public class RecruiterProfileController {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (!(authentication instanceof AnonymousAuthenticationToken)) {
-            String currentUsername = authentication.getName();
-            Users users = usersRepository.findByEmail(currentUsername).orElseThrow(() -> new UsernameNotFoundException("Could not " + "found user"));
+            Users users = usersService.getCurrentUser();
             Optional<RecruiterProfile> recruiterProfile = recruiterProfileService.getOne(users.getUserId());
 
             if (!recruiterProfile.isEmpty())
@@ -56,8 +54,7 @@ public class RecruiterProfileController {
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (!(authentication instanceof AnonymousAuthenticationToken)) {
-            String currentUsername = authentication.getName();
-            Users users = usersRepository.findByEmail(currentUsername).orElseThrow(() -> new UsernameNotFoundException("Could not " + "found user"));
+            Users users = usersService.getCurrentUser();
             recruiterProfile.setUserId(users);
             recruiterProfile.setUserAccountId(users.getUserId());
         }
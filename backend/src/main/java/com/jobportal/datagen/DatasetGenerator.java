@@ -0,0 +1,481 @@
+package com.jobportal.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the configured database with a large synthetic dataset (companies, locations, recruiters,
+ * seekers with skills, jobs, applications and saves) for finding what breaks at scale, then exits.
+ * Active with the {@code datagen} profile; sizes and settings are the {@code datagen.*} properties
+ * (see application-datagen.properties).
+ *
+ * Rows are appended after the existing ones and written with JDBC batches by {@code datagen.threads}
+ * writers. Work is split into fixed chunks, each with its own random seeded from {@code datagen.seed}
+ * and the chunk's position and committed on its own, so the same seed and sizes give the same data
+ * however the chunks are scheduled. Popularity is skewed as in real traffic: a few recruiters post
+ * most jobs, a few cities hold most of them and applications and saves pile onto a minority of jobs.
+ */
+@Component
+@Profile("datagen")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    // Rows (or seekers, for per-seeker tables) per unit of work: one seed, one transaction, one thread
+    private static final int CHUNK_SIZE = 10_000;
+    private static final long MAX_JOB_AGE_MS = TimeUnit.DAYS.toMillis(730);
+
+    private static final String[] ROLES = {
+        "Software Engineer", "Data Analyst", "Product Manager", "DevOps Engineer", "QA Engineer",
+        "Data Scientist", "Frontend Developer", "Backend Developer", "UX Designer", "Business Analyst",
+        "Sales Executive", "Marketing Manager", "Accountant", "HR Generalist", "Support Specialist",
+        "Java Developer", "Cloud Architect", "Security Engineer", "Mobile Developer", "Content Writer",
+        "Project Manager", "Network Engineer", "Machine Learning Engineer", "Customer Success Manager"
+    };
+    private static final String[] LEVELS = {"Junior", "", "", "Senior", "Senior", "Lead", "Principal"};
+    private static final String[][] CITIES = {
+        {"Bangalore", "Karnataka", "India"}, {"Mumbai", "Maharashtra", "India"}, {"Delhi", "Delhi", "India"},
+        {"Hyderabad", "Telangana", "India"}, {"Pune", "Maharashtra", "India"}, {"Chennai", "Tamil Nadu", "India"},
+        {"Gurgaon", "Haryana", "India"}, {"Noida", "Uttar Pradesh", "India"}, {"Kolkata", "West Bengal", "India"},
+        {"New York", "New York", "United States"}, {"San Francisco", "California", "United States"},
+        {"Austin", "Texas", "United States"}, {"Seattle", "Washington", "United States"},
+        {"London", "England", "United Kingdom"}, {"Berlin", "Berlin", "Germany"}, {"Toronto", "Ontario", "Canada"},
+        {"Sydney", "New South Wales", "Australia"}, {"Singapore", "Singapore", "Singapore"}
+    };
+    private static final String[] COMPANY_WORDS = {
+        "Acme", "Globex", "Initech", "Hooli", "Vandelay", "Stark", "Wayne", "Tyrell", "Umbrella", "Cyberdyne",
+        "Soylent", "Massive", "Nimbus", "Vertex", "Quantum", "Apex", "Bluefin", "Northwind", "Contoso", "Fabrikam"
+    };
+    private static final String[] COMPANY_SUFFIXES = {"Labs", "Systems", "Technologies", "Solutions", "Group", "Analytics"};
+    private static final String[] FIRST_NAMES = {
+        "Aarav", "Priya", "Rahul", "Ananya", "Vikram", "Kavya", "James", "Emma", "Liam", "Olivia", "Noah", "Sofia",
+        "Arjun", "Meera", "Rohan", "Isha", "Daniel", "Chloe", "Omar", "Fatima"
+    };
+    private static final String[] LAST_NAMES = {
+        "Sharma", "Patel", "Iyer", "Reddy", "Gupta", "Nair", "Smith", "Johnson", "Brown", "Garcia", "Miller",
+        "Khan", "Singh", "Das", "Chen", "Wilson"
+    };
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "SQL", "Python", "JavaScript", "React", "AWS", "Docker", "Kubernetes", "Git",
+        "Excel", "Tableau", "Figma", "Go", "TypeScript", "Linux", "Communication", "Leadership", "Salesforce",
+        "Machine Learning", "Node.js", "Terraform", "Kafka", "Redis"
+    };
+    private static final String[] SKILL_LEVELS = {"Beginner", "Intermediate", "Intermediate", "Advanced", "Expert"};
+    private static final String[] DESCRIPTION_SENTENCES = {
+        "You will design, build and operate services used by millions of people.",
+        "Work closely with product, design and other engineers to ship features end to end.",
+        "Experience with Java, Spring Boot and relational databases is required.",
+        "Familiarity with cloud platforms, containers and CI/CD pipelines is a plus.",
+        "Analyze data to identify trends and turn them into actionable insights.",
+        "Mentor junior team members and contribute to our engineering culture.",
+        "We offer competitive pay, health insurance and a flexible hybrid schedule.",
+        "Strong written and verbal communication skills are essential.",
+        "Own the roadmap for your area and make pragmatic trade-offs.",
+        "Previous experience in a fast-growing startup is an advantage."
+    };
+    // Weighted by repetition
+    private static final String[] JOB_TYPES = {"Full-Time", "Full-Time", "Full-Time", "Full-Time", "Part-Time", "Freelance", "InternShip"};
+    private static final String[] REMOTE_OPTIONS = {"Office-Only", "Office-Only", "Office-Only", "Remote-Only", "Partial-Remote", "Partial-Remote"};
+    private static final String[] STATUSES = {
+        "APPLIED", "APPLIED", "APPLIED", "APPLIED", "UNDER_REVIEW", "UNDER_REVIEW", "INTERVIEW_SCHEDULED",
+        "INTERVIEWED", "OFFERED", "HIRED", "REJECTED", "REJECTED", "REJECTED", "WITHDRAWN"
+    };
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final Plan plan;
+
+    public DatasetGenerator(DataSource dataSource, JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                            ConfigurableApplicationContext context, Environment environment) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+        this.plan = Plan.from(environment);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.currentTimeMillis();
+        logger.info("Generating {}", plan);
+        Ranges ranges = new Ranges(plan, maxId("job_company", "id"), maxId("job_location", "id"),
+                maxId("users", "user_id"), maxId("job_post_activity", "job_post_id"), start);
+        int recruiterType = userType("Recruiter");
+        int seekerType = userType("Job Seeker");
+        // Hashed once: every generated user shares the password, and BCrypt per row would take hours
+        String passwordHash = passwordEncoder.encode(plan.password());
+
+        ExecutorService writers = Executors.newFixedThreadPool(plan.threads());
+        try {
+            fill(writers, "job_company", "INSERT INTO job_company (id, name, website) VALUES (?, ?, ?)",
+                    plan.companies(), (batch, i, random) -> {
+                int id = ranges.firstCompany() + i;
+                batch.add(id, companyName(id), "https://company" + id + ".example.com");
+            });
+
+            fill(writers, "job_location", "INSERT INTO job_location (id, city, state, country) VALUES (?, ?, ?, ?)",
+                    plan.locations(), (batch, i, random) -> {
+                String[] city = CITIES[i % CITIES.length];
+                int round = i / CITIES.length;
+                batch.add(ranges.firstLocation() + i, round == 0 ? city[0] : city[0] + " " + (round + 1), city[1], city[2]);
+            });
+
+            fill(writers, "users", "INSERT INTO users (user_id, email, password, first_name, last_name, is_active, "
+                    + "token_version, registration_date, user_type_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    plan.recruiters() + plan.seekers(), (batch, i, random) -> {
+                int userId = ranges.firstRecruiter() + i;
+                boolean recruiter = i < plan.recruiters();
+                batch.add(userId, (recruiter ? "recruiter" : "seeker") + userId + "@datagen.example", passwordHash,
+                        firstName(userId), lastName(userId), true, 0,
+                        new Timestamp(start - random.nextLong(MAX_JOB_AGE_MS)), recruiter ? recruiterType : seekerType);
+            });
+
+            fill(writers, "recruiter_profile", "INSERT INTO recruiter_profile (user_account_id, first_name, last_name, "
+                    + "company, city, state, country) VALUES (?, ?, ?, ?, ?, ?, ?)", plan.recruiters(), (batch, i, random) -> {
+                int userId = ranges.firstRecruiter() + i;
+                String[] city = CITIES[skewed(random, CITIES.length)];
+                batch.add(userId, firstName(userId), lastName(userId), companyName(ranges.companyOf(userId)),
+                        city[0], city[1], city[2]);
+            });
+
+            fill(writers, "job_seeker_profile", "INSERT INTO job_seeker_profile (user_account_id, first_name, last_name, "
+                    + "city, state, country, current_job_title, experience) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    plan.seekers(), (batch, i, random) -> {
+                int userId = ranges.firstSeeker() + i;
+                String[] city = CITIES[skewed(random, CITIES.length)];
+                batch.add(userId, firstName(userId), lastName(userId), city[0], city[1], city[2],
+                        ROLES[random.nextInt(ROLES.length)], random.nextInt(16) + " years");
+            });
+
+            fill(writers, "skills", "INSERT INTO skills (name, experience_level, years_of_experience, job_seeker_profile) "
+                    + "VALUES (?, ?, ?, ?)", plan.seekers(), (batch, i, random) -> {
+                int userId = ranges.firstSeeker() + i;
+                Set<Integer> picked = new HashSet<>();
+                int count = Math.min(SKILLS.length, random.nextInt(2 * plan.skillsPerSeeker() + 1));
+                while (picked.size() < count) {
+                    int skill = skewed(random, SKILLS.length);
+                    if (picked.add(skill)) {
+                        batch.add(SKILLS[skill], SKILL_LEVELS[random.nextInt(SKILL_LEVELS.length)],
+                                String.valueOf(1 + random.nextInt(12)), userId);
+                    }
+                }
+            });
+
+            fill(writers, "job_post_activity", "INSERT INTO job_post_activity (job_post_id, job_title, description_of_job, "
+                    + "job_type, salary, remote, posted_date, is_active, posted_by_id, job_location_id, job_company_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", plan.jobs(), (batch, i, random) -> {
+                int jobPostId = ranges.firstJob() + i;
+                int recruiterId = ranges.firstRecruiter() + skewed(random, plan.recruiters());
+                String level = LEVELS[random.nextInt(LEVELS.length)];
+                int salary = 3 + random.nextInt(40);
+                batch.add(jobPostId, (level.isEmpty() ? "" : level + " ") + ROLES[random.nextInt(ROLES.length)],
+                        description(random), JOB_TYPES[random.nextInt(JOB_TYPES.length)],
+                        "₹" + salary + "L - ₹" + (salary + 2 + random.nextInt(10)) + "L",
+                        REMOTE_OPTIONS[random.nextInt(REMOTE_OPTIONS.length)], new Timestamp(ranges.postedAt(jobPostId)),
+                        random.nextInt(10) != 0, recruiterId, ranges.firstLocation() + skewed(random, plan.locations()),
+                        ranges.companyOf(recruiterId));
+            });
+
+            fill(writers, "job_seeker_apply", "INSERT INTO job_seeker_apply (user_id, job, apply_date, last_updated, "
+                    + "status, cover_letter, resume_path) VALUES (?, ?, ?, ?, ?, ?, ?)", plan.seekers(), (batch, i, random) -> {
+                int userId = ranges.firstSeeker() + i;
+                for (int jobPostId : jobsFor(random, ranges, plan.applications())) {
+                    long postedAt = ranges.postedAt(jobPostId);
+                    Timestamp appliedAt = new Timestamp(postedAt + random.nextLong(start - postedAt + 1));
+                    batch.add(userId, jobPostId, appliedAt, appliedAt, STATUSES[random.nextInt(STATUSES.length)],
+                            "I am excited to apply for this role.", "resumes/" + userId + ".pdf");
+                }
+            });
+
+            fill(writers, "job_seeker_save", "INSERT INTO job_seeker_save (user_id, job) VALUES (?, ?)",
+                    plan.seekers(), (batch, i, random) -> {
+                int userId = ranges.firstSeeker() + i;
+                for (int jobPostId : jobsFor(random, ranges, plan.saves())) {
+                    batch.add(userId, jobPostId);
+                }
+            });
+        } finally {
+            writers.shutdownNow();
+        }
+
+        if (isH2()) {
+            // Unlike MySQL, H2 does not move an identity column past explicitly inserted IDs
+            restartIdentity("job_company", "id");
+            restartIdentity("job_location", "id");
+            restartIdentity("users", "user_id");
+            restartIdentity("job_post_activity", "job_post_id");
+        }
+        logger.info("Dataset generated in {} s", (System.currentTimeMillis() - start) / 1000);
+
+        if (plan.exitWhenDone()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    /**
+     * Write {@code count} units to one table: {@code rows} is called once per unit with its index and
+     * the random of the chunk holding it, and may add any number of rows
+     */
+    private void fill(ExecutorService writers, String table, String sql, int count, RowSource rows) throws Exception {
+        long start = System.nanoTime();
+        LongAdder written = new LongAdder();
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int first = 0; first < count; first += CHUNK_SIZE) {
+            int from = first;
+            int to = Math.min(count, first + CHUNK_SIZE);
+            SplittableRandom random = new SplittableRandom(plan.seed() * 1_000_003L + table.hashCode() * 7_919L + from / CHUNK_SIZE);
+            chunks.add(writers.submit(() -> {
+                written.add(writeChunk(sql, from, to, random, rows));
+                return null;
+            }));
+        }
+        for (Future<?> chunk : chunks) {
+            chunk.get();
+        }
+        double seconds = Math.max(1e-3, (System.nanoTime() - start) / 1e9);
+        logger.info("{}: {} rows in {} s ({} rows/s)", table, written.sum(), Math.round(seconds),
+                Math.round(written.sum() / seconds));
+    }
+
+    private long writeChunk(String sql, int from, int to, SplittableRandom random, RowSource rows) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                Batch batch = new Batch(statement, plan.batchSize());
+                for (int i = from; i < to; i++) {
+                    rows.add(batch, i, random);
+                }
+                batch.flush();
+                connection.commit();
+                return batch.rows;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // Distinct jobs for one seeker, about total / seekers of them on average, skewed towards popular jobs
+    private int[] jobsFor(SplittableRandom random, Ranges ranges, long total) {
+        double mean = (double) total / plan.seekers();
+        // Exponentially distributed: most seekers apply to a few jobs, a long tail to many
+        int count = (int) Math.min(plan.jobs() / 2, Math.round(-mean * Math.log(1 - random.nextDouble())));
+        Set<Integer> jobs = new HashSet<>();
+        int[] picked = new int[count];
+        while (jobs.size() < count) {
+            int jobPostId = ranges.firstJob() + skewed(random, plan.jobs());
+            if (jobs.add(jobPostId)) {
+                picked[jobs.size() - 1] = jobPostId;
+            }
+        }
+        return picked;
+    }
+
+    // An index below size, skewed so the first eighth gets half the picks
+    private static int skewed(SplittableRandom random, int size) {
+        double u = random.nextDouble();
+        return (int) (size * u * u * u);
+    }
+
+    private static String description(SplittableRandom random) {
+        StringBuilder description = new StringBuilder("<p>");
+        int sentences = 3 + random.nextInt(6);
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                description.append(' ');
+            }
+            description.append(DESCRIPTION_SENTENCES[random.nextInt(DESCRIPTION_SENTENCES.length)]);
+        }
+        return description.append("</p>").toString();
+    }
+
+    // Names are a function of the ID, so users and their profiles agree without keeping them in memory
+    private static String firstName(int userId) {
+        return FIRST_NAMES[Math.floorMod(mix(userId), FIRST_NAMES.length)];
+    }
+
+    private static String lastName(int userId) {
+        return LAST_NAMES[Math.floorMod(mix(userId) >>> 32, LAST_NAMES.length)];
+    }
+
+    private static String companyName(int companyId) {
+        int i = companyId - 1;
+        String name = COMPANY_WORDS[i % COMPANY_WORDS.length] + " "
+                + COMPANY_SUFFIXES[(i / COMPANY_WORDS.length) % COMPANY_SUFFIXES.length];
+        int round = i / (COMPANY_WORDS.length * COMPANY_SUFFIXES.length);
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private int maxId(String table, String column) {
+        Integer max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Integer.class);
+        return max == null ? 0 : max;
+    }
+
+    private int userType(String name) {
+        List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT user_type_id FROM users_type WHERE user_type_name = ?", Integer.class, name);
+        if (ids.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO users_type (user_type_name) VALUES (?)", name);
+            return userType(name);
+        }
+        return ids.get(0);
+    }
+
+    private boolean isH2() {
+        return "H2".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+    }
+
+    private void restartIdentity(String table, String column) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + (maxId(table, column) + 1));
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        void add(Batch batch, int index, SplittableRandom random) throws SQLException;
+    }
+
+    /**
+     * Rows added to a prepared statement, sent every {@code size} rows
+     */
+    private static final class Batch {
+        private final PreparedStatement statement;
+        private final int size;
+        private int pending;
+        private long rows;
+
+        Batch(PreparedStatement statement, int size) {
+            this.statement = statement;
+            this.size = size;
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            rows++;
+            if (++pending == size) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+    }
+
+    /**
+     * Where the generated rows go: each table's new IDs start after its current maximum, and recruiters
+     * are the first new users, seekers the ones after them
+     */
+    private record Ranges(Plan plan, int companiesBefore, int locationsBefore, int usersBefore, int jobsBefore,
+                          long now) {
+
+        int firstCompany() {
+            return companiesBefore + 1;
+        }
+
+        int firstLocation() {
+            return locationsBefore + 1;
+        }
+
+        int firstRecruiter() {
+            return usersBefore + 1;
+        }
+
+        int firstSeeker() {
+            return usersBefore + plan.recruiters() + 1;
+        }
+
+        int firstJob() {
+            return jobsBefore + 1;
+        }
+
+        int companyOf(int recruiterId) {
+            return firstCompany() + (recruiterId - firstRecruiter()) % plan.companies();
+        }
+
+        // A function of the ID, so applications can be dated after their job without holding every date
+        long postedAt(int jobPostId) {
+            return now - Math.floorMod(mix(plan.seed() ^ jobPostId), MAX_JOB_AGE_MS);
+        }
+    }
+
+    /**
+     * Sizes and settings, from the {@code datagen.*} properties
+     */
+    private record Plan(long seed, int threads, int batchSize, int companies, int locations, int recruiters,
+                        int seekers, int jobs, long applications, long saves, int skillsPerSeeker, String password,
+                        boolean exitWhenDone) {
+
+        static Plan from(Environment environment) {
+            Plan plan = new Plan(
+                    environment.getProperty("datagen.seed", Long.class, 42L),
+                    environment.getProperty("datagen.threads", Integer.class, 8),
+                    environment.getProperty("datagen.batch-size", Integer.class, 1_000),
+                    environment.getProperty("datagen.companies", Integer.class, 20_000),
+                    environment.getProperty("datagen.locations", Integer.class, 5_000),
+                    environment.getProperty("datagen.recruiters", Integer.class, 50_000),
+                    environment.getProperty("datagen.seekers", Integer.class, 1_000_000),
+                    environment.getProperty("datagen.jobs", Integer.class, 2_000_000),
+                    environment.getProperty("datagen.applications", Long.class, 20_000_000L),
+                    environment.getProperty("datagen.saves", Long.class, 5_000_000L),
+                    environment.getProperty("datagen.skills-per-seeker", Integer.class, 4),
+                    environment.getProperty("datagen.password", "password123"),
+                    environment.getProperty("datagen.exit-when-done", Boolean.class, true));
+            if (plan.companies() < 1 || plan.locations() < 1 || plan.recruiters() < 1 || plan.seekers() < 1
+                    || plan.jobs() < 1) {
+                throw new IllegalArgumentException("datagen needs at least one company, location, recruiter, seeker and job");
+            }
+            return plan;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d companies, %,d locations, %,d recruiters, %,d seekers, %,d jobs, ~%,d applications "
+                    + "and ~%,d saves (seed %d, %d writers)", companies, locations, recruiters, seekers, jobs,
+                    applications, saves, seed, threads);
+        }
+    }
+}
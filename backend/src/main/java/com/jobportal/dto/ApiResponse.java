@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponse<T> {
@@ -11,6 +12,8 @@ public class ApiResponse<T> {
     private String message;
     private T data;
     private String error;
+    private PageInfo page;
+    private Map<String, Map<String, Integer>> facets;
     
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime timestamp;
@@ -67,6 +70,12 @@ public class ApiResponse<T> {
     public String getError() { return error; }
     public void setError(String error) { this.error = error; }
 
+    public PageInfo getPage() { return page; }
+    public void setPage(PageInfo page) { this.page = page; }
+
+    public Map<String, Map<String, Integer>> getFacets() { return facets; }
+    public void setFacets(Map<String, Map<String, Integer>> facets) { this.facets = facets; }
+
     public LocalDateTime getTimestamp() { return timestamp; }
     public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
 }
\ No newline at end of file
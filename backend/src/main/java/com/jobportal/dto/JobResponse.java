@@ -1,5 +1,7 @@
 package com.jobportal.dto;
 
+import com.jobportal.entity.JobPostActivity;
+
 import java.util.Date;
 
 public class JobResponse {
@@ -56,6 +58,87 @@ public class JobResponse {
     
     // Constructors
     public JobResponse() {}
+
+    /**
+     * Flat constructor for JPQL constructor expressions (see {@code JobPostActivityRepository.LISTING_SELECT}),
+     * so list pages are read straight into DTOs without loading entities
+     */
+    public JobResponse(Integer jobPostId, String jobTitle, String descriptionOfJob, String jobType, String salary,
+                       String remote, Date postedDate, Integer recruiterId, String recruiterFirstName,
+                       String recruiterLastName, String recruiterEmail, Integer locationId, String city,
+                       String country, String companyName) {
+        this.jobPostId = jobPostId;
+        this.jobTitle = jobTitle;
+        this.descriptionOfJob = descriptionOfJob;
+        this.jobType = jobType;
+        this.salary = salary;
+        this.remote = remote;
+        this.postedDate = postedDate;
+        if (recruiterId != null) {
+            this.postedBy = new RecruiterInfo(recruiterId, recruiterFirstName, recruiterLastName, recruiterEmail);
+            this.postedByEmail = recruiterEmail;
+        }
+        if (locationId != null) {
+            this.jobLocation = city + ", " + country;
+        }
+        this.companyName = companyName;
+    }
+
+    public static JobResponse of(JobPostActivity job) {
+        JobResponse response = new JobResponse();
+        response.setJobPostId(job.getJobPostId());
+        response.setJobTitle(job.getJobTitle());
+        response.setDescriptionOfJob(job.getDescriptionOfJob());
+        response.setJobType(job.getJobType());
+        response.setSalary(job.getSalary());
+        response.setRemote(job.getRemote());
+        response.setPostedDate(job.getPostedDate());
+
+        if (job.getPostedById() != null) {
+            JobResponse.RecruiterInfo recruiterInfo = new JobResponse.RecruiterInfo(
+                job.getPostedById().getUserId(),
+                job.getPostedById().getFirstName(),
+                job.getPostedById().getLastName(),
+                job.getPostedById().getEmail()
+            );
+            response.setPostedBy(recruiterInfo);
+            response.setPostedByEmail(job.getPostedById().getEmail());
+        }
+
+        if (job.getJobLocationId() != null) {
+            response.setJobLocation(job.getJobLocationId().getCity() + ", " + job.getJobLocationId().getCountry());
+        }
+
+        if (job.getJobCompanyId() != null) {
+            response.setCompanyName(job.getJobCompanyId().getName());
+        }
+
+        return response;
+    }
+
+    /**
+     * Shallow copy, for adding per-user flags to a response that is shared (e.g. from a cached page)
+     */
+    public JobResponse copy() {
+        JobResponse copy = new JobResponse();
+        copy.jobPostId = jobPostId;
+        copy.jobTitle = jobTitle;
+        copy.descriptionOfJob = descriptionOfJob;
+        copy.jobType = jobType;
+        copy.salary = salary;
+        copy.remote = remote;
+        copy.postedDate = postedDate;
+        copy.jobLocation = jobLocation;
+        copy.companyName = companyName;
+        copy.companyWebsite = companyWebsite;
+        copy.isActive = isActive;
+        copy.isSaved = isSaved;
+        copy.postedBy = postedBy;
+        copy.applied = applied;
+        copy.saved = saved;
+        copy.postedByEmail = postedByEmail;
+        return copy;
+    }
     
     // Getters and Setters
     public Integer getJobPostId() { return jobPostId; }
@@ -3,6 +3,7 @@ package com.jobportal.dto;
 public class JwtResponse {
     
     private String token;
+    private String refreshToken;
     private String type = "Bearer";
     private Long userId;
     private String email;
@@ -28,6 +29,9 @@ public class JwtResponse {
     public String getToken() { return token; }
     public void setToken(String token) { this.token = token; }
     
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+    
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
     
@@ -0,0 +1,18 @@
+package com.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LocationSuggestionDto {
+    private Integer id;
+    private String city;
+    private String state;
+    private String country;
+    private int jobCount;
+}
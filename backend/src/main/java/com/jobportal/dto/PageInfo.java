@@ -0,0 +1,61 @@
+package com.jobportal.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Pagination metadata returned next to a page of results.
+ * Cursor-paged endpoints set {@code nextCursor}: pass it back as the {@code cursor} request parameter
+ * to fetch the following page. Page-numbered endpoints set {@code nextPage}/{@code totalPages} instead.
+ */
+public class PageInfo {
+    private String nextCursor;
+    // Only sent by page-numbered endpoints
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer nextPage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+    private boolean hasNext;
+    private int size;
+    private long totalEstimate;
+
+    public PageInfo() {}
+
+    public PageInfo(String nextCursor, int size, long totalEstimate) {
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = size;
+        this.totalEstimate = totalEstimate;
+    }
+
+    /**
+     * Metadata for a page-numbered result; {@code page} is the 1-based number of the current page
+     */
+    public static PageInfo ofPage(int page, int totalPages, int size, long total) {
+        PageInfo info = new PageInfo();
+        info.hasNext = page < totalPages;
+        info.nextPage = info.hasNext ? page + 1 : null;
+        info.totalPages = totalPages;
+        info.size = size;
+        info.totalEstimate = total;
+        return info;
+    }
+
+    // Getters and setters
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public Integer getNextPage() { return nextPage; }
+    public void setNextPage(Integer nextPage) { this.nextPage = nextPage; }
+
+    public Integer getTotalPages() { return totalPages; }
+    public void setTotalPages(Integer totalPages) { this.totalPages = totalPages; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public long getTotalEstimate() { return totalEstimate; }
+    public void setTotalEstimate(long totalEstimate) { this.totalEstimate = totalEstimate; }
+}
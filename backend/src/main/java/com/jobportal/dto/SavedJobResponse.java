@@ -0,0 +1,30 @@
+package com.jobportal.dto;
+
+import java.util.Date;
+
+/**
+ * One row of a seeker's saved jobs, read in a single query together with the job's location,
+ * company and recruiter and whether the seeker has applied (see {@code JobSeekerSaveRepository.findSavedJobs})
+ */
+public class SavedJobResponse {
+
+    private final Integer saveId;
+    private final JobResponse job;
+    private final boolean applied;
+
+    public SavedJobResponse(Integer saveId, Integer jobPostId, String jobTitle, String descriptionOfJob, String jobType,
+                            String salary, String remote, Date postedDate, Integer recruiterId,
+                            String recruiterFirstName, String recruiterLastName, String recruiterEmail,
+                            Integer locationId, String city, String country, String companyName, Boolean applied) {
+        this.saveId = saveId;
+        this.job = new JobResponse(jobPostId, jobTitle, descriptionOfJob, jobType, salary, remote, postedDate,
+                recruiterId, recruiterFirstName, recruiterLastName, recruiterEmail, locationId, city, country, companyName);
+        this.applied = Boolean.TRUE.equals(applied);
+    }
+
+    public Integer getSaveId() { return saveId; }
+
+    public JobResponse getJob() { return job; }
+
+    public boolean isApplied() { return applied; }
+}
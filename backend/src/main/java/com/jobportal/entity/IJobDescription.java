@@ -0,0 +1,8 @@
+package com.jobportal.entity;
+
+public interface IJobDescription {
+
+    Integer getJobPostId();
+
+    String getDescriptionOfJob();
+}
@@ -0,0 +1,24 @@
+package com.jobportal.entity;
+
+import java.util.Date;
+
+public interface IJobSearchDocument {
+
+    Integer getJobPostId();
+
+    String getJobTitle();
+
+    String getJobType();
+
+    String getRemote();
+
+    Date getPostedDate();
+
+    Integer getLocationId();
+
+    String getCity();
+
+    String getState();
+
+    String getCountry();
+}
@@ -47,6 +47,10 @@ public class Users {
 
     private boolean isActive;
 
+    // Embedded in issued JWTs; bumping it invalidates every token issued before
+    @Column(name = "token_version", nullable = false, columnDefinition = "int default 0")
+    private int tokenVersion;
+
     @DateTimeFormat(pattern = "dd-MM-yyyy")
     private Date registrationDate;
 
@@ -117,6 +121,14 @@ public class Users {
         isActive = active;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public Date getRegistrationDate() {
         return registrationDate;
     }
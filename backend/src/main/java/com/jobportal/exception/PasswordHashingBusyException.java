@@ -0,0 +1,12 @@
+package com.jobportal.exception;
+
+/**
+ * Thrown when the password hashing pool and its queue are full; answered with 429 so the client backs
+ * off instead of tying up another request thread
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("Too many concurrent sign-in requests. Please try again shortly.");
+    }
+}
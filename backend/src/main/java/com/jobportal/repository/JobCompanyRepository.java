@@ -2,6 +2,8 @@ package com.jobportal.repository;
 
 import com.jobportal.entity.JobCompany;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,4 +26,11 @@ public interface JobCompanyRepository extends JpaRepository<JobCompany, Integer>
     
     // Check if company exists by name (case insensitive)
     boolean existsByNameIgnoreCase(String name);
+
+    // ID-only reads for the sitemap
+    @Query("SELECT MAX(c.id) FROM JobCompany c")
+    Integer findMaxId();
+
+    @Query("SELECT c.id FROM JobCompany c WHERE c.id >= :fromId AND c.id < :toId ORDER BY c.id")
+    List<Integer> findIdsInRange(@Param("fromId") int fromId, @Param("toId") int toId);
 }
\ No newline at end of file
@@ -1,17 +1,30 @@
 package com.jobportal.repository;
 
+import com.jobportal.dto.JobResponse;
+import com.jobportal.entity.IJobDescription;
+import com.jobportal.entity.IJobSearchDocument;
 import com.jobportal.entity.IRecruiterJobs;
 import com.jobportal.entity.JobPostActivity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 public interface JobPostActivityRepository extends JpaRepository<JobPostActivity, Integer> {
 
+    // Exactly the JobResponse columns, read into DTOs in one statement; the description is cut to
+    // :descriptionLength characters in SQL so summary listings don't ship 10k-character bodies
+    String LISTING_SELECT = "SELECT new com.jobportal.dto.JobResponse(j.jobPostId, j.jobTitle, " +
+            " SUBSTRING(j.descriptionOfJob, 1, :descriptionLength), j.jobType, j.salary, j.remote, j.postedDate, " +
+            " u.userId, u.firstName, u.lastName, u.email, l.id, l.city, l.country, c.name) " +
+            " FROM JobPostActivity j LEFT JOIN j.postedById u LEFT JOIN j.jobLocationId l LEFT JOIN j.jobCompanyId c ";
+
     @Override
     @EntityGraph(value = "JobPostActivity.withDetails", type = EntityGraph.EntityGraphType.LOAD)
     java.util.List<JobPostActivity> findAll();
@@ -54,4 +67,56 @@ public interface JobPostActivityRepository extends JpaRepository<JobPostActivity
     List<JobPostActivity> findByRecruiter(@Param("recruiterId") int recruiterId);
 
     List<JobPostActivity> findByPostedById_UserIdAndIsActiveTrue(int userId);
-}
\ No newline at end of file
+
+    // Keyset pagination over jobPostId for streaming a recruiter's active jobs
+    @Query(value = LISTING_SELECT + " WHERE u.userId = :recruiterId AND j.isActive = true AND j.jobPostId > :afterId " +
+            " ORDER BY j.jobPostId")
+    List<JobResponse> findActiveListingsByRecruiterAfter(@Param("recruiterId") int recruiterId,
+                                                         @Param("afterId") int afterId,
+                                                         @Param("descriptionLength") int descriptionLength,
+                                                         Pageable limit);
+
+    // Lightweight rows used to build the in-memory search index
+    @Query(value = "SELECT j.jobPostId as jobPostId, j.jobTitle as jobTitle, j.jobType as jobType, j.remote as remote, " +
+            " j.postedDate as postedDate, l.id as locationId, l.city as city, l.state as state, l.country as country " +
+            " FROM JobPostActivity j LEFT JOIN j.jobLocationId l")
+    List<IJobSearchDocument> findAllSearchDocuments();
+
+    // Descriptions are large, so the search index loads them in ID order, one batch at a time
+    @Query(value = "SELECT j.jobPostId as jobPostId, j.descriptionOfJob as descriptionOfJob FROM JobPostActivity j " +
+            " WHERE j.jobPostId > :afterId ORDER BY j.jobPostId")
+    List<IJobDescription> findDescriptionsAfter(@Param("afterId") int afterId, Pageable limit);
+
+    // ID-only reads for the sitemap
+    @Query(value = "SELECT MAX(j.jobPostId) FROM JobPostActivity j")
+    Integer findMaxJobPostId();
+
+    @Query(value = "SELECT j.jobPostId FROM JobPostActivity j WHERE j.jobPostId >= :fromId AND j.jobPostId < :toId " +
+            " ORDER BY j.jobPostId")
+    List<Integer> findIdsInRange(@Param("fromId") int fromId, @Param("toId") int toId);
+
+    @EntityGraph(value = "JobPostActivity.withDetails", type = EntityGraph.EntityGraphType.LOAD)
+    List<JobPostActivity> findByJobPostIdIn(Collection<Integer> jobPostIds);
+
+    @Query(value = LISTING_SELECT + " WHERE j.jobPostId IN :jobPostIds")
+    List<JobResponse> findListingsByJobPostIdIn(@Param("jobPostIds") Collection<Integer> jobPostIds,
+                                                @Param("descriptionLength") int descriptionLength);
+
+    // Keyset pagination over (postedDate DESC, jobPostId DESC); undated jobs come last and are paged by ID
+    @Query(value = LISTING_SELECT + " ORDER BY j.postedDate DESC, j.jobPostId DESC")
+    List<JobResponse> findLatestListings(@Param("descriptionLength") int descriptionLength, Pageable limit);
+
+    @Query(value = LISTING_SELECT + " WHERE j.postedDate < :postedDate " +
+            " OR (j.postedDate = :postedDate AND j.jobPostId < :jobPostId) " +
+            " ORDER BY j.postedDate DESC, j.jobPostId DESC")
+    List<JobResponse> findListingsPostedBefore(@Param("postedDate") Date postedDate,
+                                               @Param("jobPostId") int jobPostId,
+                                               @Param("descriptionLength") int descriptionLength,
+                                               Pageable limit);
+
+    @Query(value = LISTING_SELECT + " WHERE j.postedDate IS NULL AND j.jobPostId < :jobPostId " +
+            " ORDER BY j.jobPostId DESC")
+    List<JobResponse> findUndatedListingsBefore(@Param("jobPostId") int jobPostId,
+                                                @Param("descriptionLength") int descriptionLength,
+                                                Pageable limit);
+}
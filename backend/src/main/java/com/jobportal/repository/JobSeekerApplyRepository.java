@@ -19,6 +19,10 @@ public interface JobSeekerApplyRepository extends JpaRepository<JobSeekerApply,
 
     List<JobSeekerApply> findByJob(JobPostActivity job);
 
+    // IDs of every job the seeker has applied to, read from the (userId, job) unique index
+    @Query("SELECT jsa.job.jobPostId FROM JobSeekerApply jsa WHERE jsa.userId.userAccountId = :seekerId")
+    List<Integer> findAppliedJobIds(@Param("seekerId") Integer seekerId);
+
     // Check if user has already applied for a job
     Optional<JobSeekerApply> findByUserIdAndJob(JobSeekerProfile userId, JobPostActivity job);
 
@@ -1,10 +1,16 @@
 package com.jobportal.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.jobportal.dto.SavedJobResponse;
 import com.jobportal.entity.JobPostActivity;
 import com.jobportal.entity.JobSeekerProfile;
 import com.jobportal.entity.JobSeekerSave;
@@ -16,4 +22,35 @@ public interface JobSeekerSaveRepository extends JpaRepository<JobSeekerSave, In
 
     List<JobSeekerSave> findByJob(JobPostActivity job);
 
+    // :pattern is a LIKE pattern whose literal %, _ and ! are escaped with '!' (see JobSeekerSaveService)
+    String SAVED_JOBS_FROM = " FROM JobSeekerSave s JOIN s.job j LEFT JOIN j.postedById u LEFT JOIN j.jobLocationId l " +
+            " LEFT JOIN j.jobCompanyId c LEFT JOIN JobSeekerApply a ON a.userId = s.userId AND a.job = j " +
+            " WHERE s.userId.userAccountId = :seekerId " +
+            " AND (:pattern IS NULL OR LOWER(j.jobTitle) LIKE :pattern ESCAPE '!' " +
+            "      OR LOWER(c.name) LIKE :pattern ESCAPE '!' " +
+            "      OR LOWER(l.city) LIKE :pattern ESCAPE '!' OR LOWER(l.country) LIKE :pattern ESCAPE '!') " +
+            " AND (:type IS NULL OR j.jobType = :type) " +
+            " AND (:anyRemote = true OR j.remote IN :remote) " +
+            " AND (:appliedFilter = 0 OR (:appliedFilter = 1 AND a.id IS NOT NULL) OR (:appliedFilter = 2 AND a.id IS NULL))";
+
+    // A page of the seeker's saved jobs, filtered, sorted and paged by the database; the applied flag
+    // comes from the same statement through the (userId, job) join on JobSeekerApply
+    @Query(value = "SELECT new com.jobportal.dto.SavedJobResponse(s.id, j.jobPostId, j.jobTitle, j.descriptionOfJob, " +
+            " j.jobType, j.salary, j.remote, j.postedDate, u.userId, u.firstName, u.lastName, u.email, " +
+            " l.id, l.city, l.country, c.name, CASE WHEN a.id IS NULL THEN false ELSE true END)" + SAVED_JOBS_FROM,
+            countQuery = "SELECT COUNT(s)" + SAVED_JOBS_FROM)
+    Page<SavedJobResponse> findSavedJobs(@Param("seekerId") Integer seekerId,
+                                         @Param("pattern") String pattern,
+                                         @Param("type") String type,
+                                         @Param("anyRemote") boolean anyRemote,
+                                         @Param("remote") Collection<String> remote,
+                                         @Param("appliedFilter") int appliedFilter,
+                                         Pageable pageable);
+
+    long countByUserId(JobSeekerProfile userId);
+
+    // IDs of every job the seeker has saved, read from the (userId, job) unique index
+    @Query("SELECT jss.job.jobPostId FROM JobSeekerSave jss WHERE jss.userId.userAccountId = :seekerId")
+    List<Integer> findSavedJobIds(@Param("seekerId") Integer seekerId);
+
 }
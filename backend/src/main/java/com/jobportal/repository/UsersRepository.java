@@ -2,9 +2,30 @@ package com.jobportal.repository;
 
 import com.jobportal.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UsersRepository extends JpaRepository<Users, Integer> {
     Optional<Users> findByEmail(String email);
+
+    /**
+     * The user with their job seeker and recruiter profiles (either may be null), as one row of
+     * {@code [Users, JobSeekerProfile, RecruiterProfile]}
+     */
+    @Query("SELECT u, s, r FROM Users u " +
+           "LEFT JOIN JobSeekerProfile s ON s.userAccountId = u.userId " +
+           "LEFT JOIN RecruiterProfile r ON r.userAccountId = u.userId " +
+           "WHERE u.email = :email")
+    List<Object[]> findWithProfilesByEmail(@Param("email") String email);
+
+    @Query("SELECT u.tokenVersion FROM Users u WHERE u.userId = :userId")
+    Optional<Integer> findTokenVersion(@Param("userId") int userId);
+
+    @Modifying
+    @Query("UPDATE Users u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.userId = :userId")
+    int incrementTokenVersion(@Param("userId") int userId);
 }
@@ -0,0 +1,36 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.PageInfo;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A ready-to-serve page of job search results, as held by {@link JobSearchCache}.
+ * Shared between requests, so callers must not modify the DTOs.
+ */
+public class CachedJobPage {
+
+    private final List<JobResponse> jobs;
+    private final PageInfo page;
+    private final Map<String, Map<String, Integer>> facets;
+
+    public CachedJobPage(List<JobResponse> jobs, PageInfo page, Map<String, Map<String, Integer>> facets) {
+        this.jobs = List.copyOf(jobs);
+        this.page = page;
+        this.facets = facets;
+    }
+
+    public List<JobResponse> getJobs() {
+        return jobs;
+    }
+
+    public PageInfo getPage() {
+        return page;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+}
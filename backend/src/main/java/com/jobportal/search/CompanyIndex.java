@@ -0,0 +1,263 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.JobCompany;
+import com.jobportal.repository.JobCompanyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over company names for fuzzy autocomplete and duplicate detection.
+ *
+ * Each word of a folded name is padded ("  acme ") and split into trigrams; candidates are scored
+ * by the Dice coefficient of their trigram sets, so typos and reordered words still match.
+ * Names also get a canonical key with legal suffixes dropped ("ACME Inc." and "Acme" both become
+ * "acme"). {@code JobDataRestController} reuses a company instead of inserting a twin when the
+ * canonical keys are equal or their trigram similarity shows a likely misspelling ("Northwind
+ * Trader" vs "Northwind Traders").
+ */
+@Component
+public class CompanyIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompanyIndex.class);
+
+    // Below this similarity a non-prefix match is noise rather than a typo
+    private static final double MIN_SIMILARITY = 0.3;
+
+    // Canonical names this similar are treated as the same company. Kept high because a false match
+    // attaches jobs to the wrong company: "Vertex Solutions" vs "Vortex Solutions" scores 0.82.
+    private static final double DUPLICATE_SIMILARITY = 0.85;
+
+    private static final Set<String> LEGAL_SUFFIXES = Set.of(
+            "inc", "incorporated", "llc", "llp", "ltd", "limited", "corp", "corporation", "co", "company",
+            "plc", "gmbh", "ag", "sa", "pvt", "private", "pte", "pty", "bv", "srl");
+
+    private final JobCompanyRepository jobCompanyRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, BitSet> trigrams = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<String, Integer> idsByCanonicalName = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public CompanyIndex(JobCompanyRepository jobCompanyRepository) {
+        this.jobCompanyRepository = jobCompanyRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            List<JobCompany> companies = jobCompanyRepository.findAll();
+            lock.writeLock().lock();
+            try {
+                trigrams.clear();
+                entries.clear();
+                idsByCanonicalName.clear();
+                for (JobCompany company : companies) {
+                    add(company);
+                }
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Company index built with {} companies in {} ms", companies.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Failed to build company index, company search will use the database", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Add a company after it has been created
+     */
+    public void index(JobCompany company) {
+        if (company == null || company.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!entries.containsKey(company.getId())) {
+                add(company);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The existing company that {@code name} most likely refers to, if any: one whose name differs
+     * only in case, accents, punctuation or legal suffix, otherwise the one whose canonical name is
+     * most similar, provided it reaches {@link #DUPLICATE_SIMILARITY}
+     */
+    public Optional<JobCompany> findDuplicate(String name) {
+        String canonical = canonicalName(name);
+        if (canonical.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<String> queryGrams = trigramsOf(canonical);
+        lock.readLock().lock();
+        try {
+            Integer id = idsByCanonicalName.get(canonical);
+            if (id != null) {
+                return Optional.of(copy(entries.get(id).company));
+            }
+            // Any company sharing a trigram with the canonical name shares it with its folded name
+            BitSet candidates = new BitSet();
+            for (String gram : queryGrams) {
+                BitSet postings = trigrams.get(gram);
+                if (postings != null) {
+                    candidates.or(postings);
+                }
+            }
+            Entry best = null;
+            double bestScore = DUPLICATE_SIMILARITY;
+            // Ascending IDs, so ties go to the oldest company, as with exact matches
+            for (int hit = candidates.nextSetBit(0); hit >= 0; hit = candidates.nextSetBit(hit + 1)) {
+                Entry entry = entries.get(hit);
+                double score = dice(queryGrams, entry.canonicalGrams);
+                if (score >= bestScore && (best == null || score > bestScore)) {
+                    best = entry;
+                    bestScore = score;
+                }
+            }
+            return best != null ? Optional.of(copy(best.company)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Companies whose name resembles {@code query}, best first. Names starting with the query rank
+     * ahead of fuzzy matches, so autocomplete behaves as users expect while typing.
+     */
+    public List<JobCompany> search(String query, int limit) {
+        String folded = String.join(" ", SearchText.tokens(query));
+        Set<String> queryGrams = trigramsOf(folded);
+        List<JobCompany> results = new ArrayList<>();
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return results;
+        }
+        lock.readLock().lock();
+        try {
+            Map<Integer, int[]> shared = new HashMap<>();
+            for (String gram : queryGrams) {
+                BitSet postings = trigrams.get(gram);
+                if (postings == null) {
+                    continue;
+                }
+                for (int id = postings.nextSetBit(0); id >= 0; id = postings.nextSetBit(id + 1)) {
+                    shared.computeIfAbsent(id, k -> new int[1])[0]++;
+                }
+            }
+            List<Map.Entry<Entry, Double>> scored = new ArrayList<>();
+            for (Map.Entry<Integer, int[]> hit : shared.entrySet()) {
+                Entry entry = entries.get(hit.getKey());
+                double score = 2.0 * hit.getValue()[0] / (queryGrams.size() + entry.gramCount);
+                if (entry.foldedName.startsWith(folded)) {
+                    score += 1.0;
+                } else if (score < MIN_SIMILARITY) {
+                    continue;
+                }
+                scored.add(Map.entry(entry, score));
+            }
+            scored.sort(Map.Entry.<Entry, Double>comparingByValue().reversed()
+                    .thenComparing(scoredEntry -> scoredEntry.getKey().foldedName));
+            for (Map.Entry<Entry, Double> hit : scored.subList(0, Math.min(limit, scored.size()))) {
+                results.add(copy(hit.getKey().company));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(JobCompany company) {
+        String folded = String.join(" ", SearchText.tokens(company.getName()));
+        Set<String> grams = trigramsOf(folded);
+        int id = company.getId();
+        String canonical = canonicalName(company.getName());
+        entries.put(id, new Entry(copy(company), folded, grams.size(), trigramsOf(canonical)));
+        for (String gram : grams) {
+            trigrams.computeIfAbsent(gram, k -> new BitSet()).set(id);
+        }
+        if (!canonical.isEmpty()) {
+            // Keep the oldest company when the table already holds duplicates
+            idsByCanonicalName.merge(canonical, id, Math::min);
+        }
+    }
+
+    /**
+     * Folded name without punctuation and trailing legal suffixes, e.g. "ACME, Inc." -> "acme"
+     */
+    private static String canonicalName(String name) {
+        List<String> tokens = SearchText.tokens(name);
+        int end = tokens.size();
+        while (end > 1 && LEGAL_SUFFIXES.contains(tokens.get(end - 1))) {
+            end--;
+        }
+        return String.join(" ", tokens.subList(0, end));
+    }
+
+    private static double dice(Set<String> first, Set<String> second) {
+        if (first.isEmpty() || second.isEmpty()) {
+            return 0;
+        }
+        int shared = 0;
+        for (String gram : first) {
+            if (second.contains(gram)) {
+                shared++;
+            }
+        }
+        return 2.0 * shared / (first.size() + second.size());
+    }
+
+    private static Set<String> trigramsOf(String folded) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (folded.isEmpty()) {
+            return grams;
+        }
+        for (String word : folded.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    // Callers get their own copy so the cached snapshot can't be modified or attached to a session
+    private static JobCompany copy(JobCompany company) {
+        return new JobCompany(company.getId(), company.getName(), company.getLogo(), company.getWebsite());
+    }
+
+    private static final class Entry {
+        private final JobCompany company;
+        private final String foldedName;
+        private final int gramCount;
+        private final Set<String> canonicalGrams;
+
+        private Entry(JobCompany company, String foldedName, int gramCount, Set<String> canonicalGrams) {
+            this.company = company;
+            this.foldedName = foldedName;
+            this.gramCount = gramCount;
+            this.canonicalGrams = canonicalGrams;
+        }
+    }
+}
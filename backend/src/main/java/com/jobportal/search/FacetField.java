@@ -0,0 +1,87 @@
+package com.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-value bitmaps of job IDs for one facet of {@link JobSearchIndex}, e.g. jobType or city.
+ *
+ * Values are matched on their folded form; the first spelling seen is kept as the display label.
+ * Not thread-safe, the owning index guards access with its lock.
+ */
+final class FacetField {
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<String, String> labels = new HashMap<>();
+
+    void add(String value, int id) {
+        String key = SearchText.fold(value).trim();
+        if (key.isEmpty()) {
+            return;
+        }
+        postings.computeIfAbsent(key, k -> new BitSet()).set(id);
+        labels.putIfAbsent(key, value.trim());
+    }
+
+    void remove(String value, int id) {
+        String key = SearchText.fold(value).trim();
+        BitSet bits = postings.get(key);
+        if (bits != null) {
+            bits.clear(id);
+            if (bits.isEmpty()) {
+                postings.remove(key);
+                labels.remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        labels.clear();
+    }
+
+    /**
+     * Jobs having any of the wanted values, like SQL {@code IN (...)}
+     */
+    BitSet union(List<String> wanted) {
+        BitSet union = new BitSet();
+        for (String value : wanted) {
+            if (value == null) {
+                continue;
+            }
+            BitSet bits = postings.get(SearchText.fold(value).trim());
+            if (bits != null) {
+                union.or(bits);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Count the jobs in {@code within} per value, largest first, dropping values with no hits.
+     * {@code scratch} is overwritten; passing one in avoids a bitset allocation per value.
+     */
+    Map<String, Integer> counts(BitSet within, BitSet scratch, int limit) {
+        List<Map.Entry<String, Integer>> counted = new ArrayList<>();
+        for (Map.Entry<String, BitSet> entry : postings.entrySet()) {
+            if (!entry.getValue().intersects(within)) {
+                continue;
+            }
+            scratch.clear();
+            scratch.or(entry.getValue());
+            scratch.and(within);
+            counted.add(Map.entry(labels.get(entry.getKey()), scratch.cardinality()));
+        }
+        counted.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : counted.subList(0, Math.min(limit, counted.size()))) {
+            counts.put(entry.getKey(), entry.getValue());
+        }
+        return counts;
+    }
+}
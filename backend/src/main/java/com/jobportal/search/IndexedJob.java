@@ -0,0 +1,156 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.IJobSearchDocument;
+import com.jobportal.entity.JobLocation;
+import com.jobportal.entity.JobPostActivity;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of the searchable fields of a job post, as held by {@link JobSearchIndex}.
+ */
+final class IndexedJob {
+
+    static final long NO_DATE = Long.MIN_VALUE;
+
+    private final int jobPostId;
+    private final Set<String> titleTerms;
+    private final int titleLength;
+    // Distinct description terms, sorted for binary search, with their frequencies
+    private final String[] descriptionTerms;
+    private final int[] descriptionFrequencies;
+    private final int descriptionLength;
+    private final Set<String> locationTerms;
+    private final String city;
+    private final String state;
+    private final String country;
+    private final String jobType;
+    private final String remote;
+    private final long postedAt;
+
+    private IndexedJob(int jobPostId, String jobTitle, String description, String city, String state, String country,
+                       String jobType, String remote, Date postedDate) {
+        this.jobPostId = jobPostId;
+        List<String> titleTokens = SearchText.tokens(jobTitle);
+        this.titleTerms = new LinkedHashSet<>(titleTokens);
+        this.titleLength = titleTokens.size();
+        List<String> descriptionTokens = SearchText.tokens(SearchText.stripMarkup(description));
+        Map<String, Integer> frequencies = new TreeMap<>();
+        for (String token : descriptionTokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        this.descriptionTerms = frequencies.keySet().toArray(new String[0]);
+        this.descriptionFrequencies = new int[descriptionTerms.length];
+        int i = 0;
+        for (int frequency : frequencies.values()) {
+            descriptionFrequencies[i++] = frequency;
+        }
+        this.descriptionLength = descriptionTokens.size();
+        this.locationTerms = new LinkedHashSet<>();
+        this.locationTerms.addAll(SearchText.tokens(city));
+        this.locationTerms.addAll(SearchText.tokens(state));
+        this.locationTerms.addAll(SearchText.tokens(country));
+        this.city = city;
+        this.state = state;
+        this.country = country;
+        this.jobType = jobType;
+        this.remote = remote;
+        this.postedAt = postedDate != null ? postedDate.getTime() : NO_DATE;
+    }
+
+    static IndexedJob from(JobPostActivity job) {
+        JobLocation location = job.getJobLocationId();
+        return new IndexedJob(job.getJobPostId(), job.getJobTitle(), job.getDescriptionOfJob(),
+                location != null ? location.getCity() : null,
+                location != null ? location.getState() : null,
+                location != null ? location.getCountry() : null,
+                job.getJobType(), job.getRemote(), job.getPostedDate());
+    }
+
+    static IndexedJob from(IJobSearchDocument document, String description) {
+        return new IndexedJob(document.getJobPostId(), document.getJobTitle(), description,
+                document.getCity(), document.getState(), document.getCountry(),
+                document.getJobType(), document.getRemote(), document.getPostedDate());
+    }
+
+    int getJobPostId() {
+        return jobPostId;
+    }
+
+    Set<String> getTitleTerms() {
+        return titleTerms;
+    }
+
+    int getTitleLength() {
+        return titleLength;
+    }
+
+    /**
+     * Number of title words starting with the given prefix
+     */
+    int titleFrequency(String prefix) {
+        int frequency = 0;
+        for (String term : titleTerms) {
+            if (term.startsWith(prefix)) {
+                frequency++;
+            }
+        }
+        return frequency;
+    }
+
+    String[] getDescriptionTerms() {
+        return descriptionTerms;
+    }
+
+    int descriptionFrequency(String term) {
+        int index = Arrays.binarySearch(descriptionTerms, term);
+        return index >= 0 ? descriptionFrequencies[index] : 0;
+    }
+
+    int getDescriptionLength() {
+        return descriptionLength;
+    }
+
+    Set<String> getLocationTerms() {
+        return locationTerms;
+    }
+
+    String getCity() {
+        return city;
+    }
+
+    String getState() {
+        return state;
+    }
+
+    String getCountry() {
+        return country;
+    }
+
+    String getJobType() {
+        return jobType;
+    }
+
+    String getRemote() {
+        return remote;
+    }
+
+    long getPostedAt() {
+        return postedAt;
+    }
+
+    /**
+     * Local calendar day of the posting, used for the posted-age buckets
+     */
+    long getPostedDay() {
+        return Instant.ofEpochMilli(postedAt).atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+}
@@ -0,0 +1,90 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.JobPostActivity;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+
+/**
+ * Position in the newest-first job listing, ordered by (postedDate DESC, jobPostId DESC).
+ *
+ * Clients only ever see the encoded form, so the layout can change without breaking them.
+ * Jobs without a posted date sort after all dated jobs, as MySQL does for NULLs in DESC order.
+ */
+public final class JobCursor {
+
+    public static final Comparator<JobCursor> NEWEST_FIRST = Comparator
+            .comparingLong((JobCursor cursor) -> cursor.postedAt).reversed()
+            .thenComparing(Comparator.comparingInt((JobCursor cursor) -> cursor.jobPostId).reversed());
+
+    private final long postedAt;
+    private final int jobPostId;
+
+    JobCursor(long postedAt, int jobPostId) {
+        this.postedAt = postedAt;
+        this.jobPostId = jobPostId;
+    }
+
+    public static JobCursor of(JobPostActivity job) {
+        return of(job.getPostedDate(), job.getJobPostId());
+    }
+
+    public static JobCursor of(Date postedDate, int jobPostId) {
+        return new JobCursor(postedDate != null ? postedDate.getTime() : IndexedJob.NO_DATE, jobPostId);
+    }
+
+    static JobCursor of(IndexedJob document) {
+        return new JobCursor(document.getPostedAt(), document.getJobPostId());
+    }
+
+    /**
+     * Decode a cursor sent by a client; returns null for a missing cursor (first page)
+     *
+     * @throws IllegalArgumentException if the cursor was not produced by {@link #encode()}
+     */
+    public static JobCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new JobCursor(Long.parseLong(raw.substring(0, separator)),
+                    Integer.parseInt(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = postedAt + ":" + jobPostId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * True if a job at (postedAt, jobPostId) comes after this cursor in the listing order
+     */
+    boolean precedes(long postedAt, int jobPostId) {
+        return postedAt < this.postedAt || (postedAt == this.postedAt && jobPostId < this.jobPostId);
+    }
+
+    public boolean precedes(JobPostActivity job) {
+        Date postedDate = job.getPostedDate();
+        return precedes(postedDate != null ? postedDate.getTime() : IndexedJob.NO_DATE, job.getJobPostId());
+    }
+
+    public boolean isUndated() {
+        return postedAt == IndexedJob.NO_DATE;
+    }
+
+    public Date getPostedDate() {
+        return isUndated() ? null : new Date(postedAt);
+    }
+
+    public int getJobPostId() {
+        return jobPostId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.JobResponse;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of jobs plus the cursor needed to fetch the next one.
+ */
+public class JobPage {
+
+    private final List<JobResponse> jobs;
+    private final String nextCursor;
+    private final long totalEstimate;
+    private final Map<String, Map<String, Integer>> facets;
+
+    public JobPage(List<JobResponse> jobs, String nextCursor, long totalEstimate) {
+        this(jobs, nextCursor, totalEstimate, null);
+    }
+
+    public JobPage(List<JobResponse> jobs, String nextCursor, long totalEstimate,
+                   Map<String, Map<String, Integer>> facets) {
+        this.jobs = jobs;
+        this.nextCursor = nextCursor;
+        this.totalEstimate = totalEstimate;
+        this.facets = facets;
+    }
+
+    public List<JobResponse> getJobs() {
+        return jobs;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public long getTotalEstimate() {
+        return totalEstimate;
+    }
+
+    /**
+     * Facet counts for a search, or null when they are not available (listing, or index not loaded)
+     */
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+}
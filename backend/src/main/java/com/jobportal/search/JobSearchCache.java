@@ -0,0 +1,163 @@
+package com.jobportal.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.dto.JobResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of rendered job listing and search pages, keyed by the normalised query.
+ *
+ * When a job is saved or deleted, {@link JobSearchIndex} passes the old and new versions here and
+ * only the entries they could affect are dropped: those whose keyword and location text match
+ * either version (their hits, totals or facet counts may change) and those showing the job.
+ * Type/remote/date filters are ignored when matching, since they still feed the facet counts.
+ * Entries also expire after a few minutes, which covers edits to companies and recruiters.
+ */
+@Component
+public class JobSearchCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final Cache<Key, Entry> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .build();
+
+    // Bumped on every invalidation; a page computed across a bump may be stale and is not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Return the cached page for this request, computing and storing it on a miss
+     */
+    public CachedJobPage get(JobSearchQuery query, boolean byRelevance, boolean summary, String cursor, int size,
+                             Supplier<CachedJobPage> loader) {
+        Key key = new Key(query, byRelevance, summary, cursor, size);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.page;
+        }
+        long before = generation.get();
+        CachedJobPage page = loader.get();
+        if (generation.get() == before) {
+            cache.put(key, new Entry(page));
+            if (generation.get() != before) {
+                // Lost a race with a write; drop rather than risk serving the pre-write page
+                cache.invalidate(key);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Drop the entries a change to one job can affect; either version may be null (insert/delete)
+     */
+    void invalidate(int jobPostId, IndexedJob before, IndexedJob after) {
+        generation.incrementAndGet();
+        cache.asMap().entrySet().removeIf(entry -> entry.getKey().matches(before) || entry.getKey().matches(after)
+                || entry.getValue().jobPostIds.contains(jobPostId));
+    }
+
+    void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static final class Entry {
+        private final CachedJobPage page;
+        private final Set<Integer> jobPostIds = new HashSet<>();
+
+        private Entry(CachedJobPage page) {
+            this.page = page;
+            for (JobResponse job : page.getJobs()) {
+                jobPostIds.add(job.getJobPostId());
+            }
+        }
+    }
+
+    /**
+     * Query in normalised form: folded tokens, sorted filter values, so equivalent requests share an entry
+     */
+    private static final class Key {
+        private final List<String> keywordTokens;
+        private final List<String> locationTokens;
+        private final String text;
+
+        private Key(JobSearchQuery query, boolean byRelevance, boolean summary, String cursor, int size) {
+            this.keywordTokens = SearchText.tokens(query.getKeyword());
+            this.locationTokens = SearchText.tokens(query.getLocation());
+            this.text = String.join("|",
+                    String.join(" ", keywordTokens),
+                    String.join(" ", locationTokens),
+                    values(query.getJobTypes()),
+                    values(query.getRemoteOptions()),
+                    String.valueOf(query.getPostedSince()),
+                    byRelevance ? "relevance" : "date",
+                    summary ? "summary" : "full",
+                    cursor != null ? cursor : "",
+                    String.valueOf(size));
+        }
+
+        private static String values(List<String> values) {
+            if (values == null) {
+                return "*";
+            }
+            Set<String> folded = new TreeSet<>();
+            for (String value : values) {
+                if (value != null) {
+                    folded.add(SearchText.fold(value).trim());
+                }
+            }
+            return String.join(",", folded);
+        }
+
+        /**
+         * Whether the job matches this query's keyword and location text. A superset of what either
+         * ordering matches: keywords are checked against title prefixes and description words.
+         */
+        private boolean matches(IndexedJob job) {
+            if (job == null) {
+                return false;
+            }
+            for (String token : keywordTokens) {
+                if (!startsAny(job.getTitleTerms(), token) && job.descriptionFrequency(token) == 0) {
+                    return false;
+                }
+            }
+            for (String token : locationTokens) {
+                if (!startsAny(job.getLocationTerms(), token)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean startsAny(Iterable<String> terms, String prefix) {
+            for (String term : terms) {
+                if (term.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && text.equals(((Key) other).text);
+        }
+
+        @Override
+        public int hashCode() {
+            return text.hashCode();
+        }
+    }
+}
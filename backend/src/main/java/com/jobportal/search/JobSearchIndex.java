@@ -0,0 +1,559 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.IJobDescription;
+import com.jobportal.entity.IJobSearchDocument;
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.repository.JobPostActivityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over job title, description and location.
+ *
+ * Posting lists are bitsets keyed by jobPostId; query tokens are matched as prefixes of indexed
+ * terms (so "dev" finds "Developer") and intersected with the jobType/remote/date filters.
+ * The same bitsets back the facet counts (jobType, remote, country/state/city, posted age).
+ * Description terms are only used by the relevance ranking ({@link #rankPage}), which scores
+ * title and description with BM25F and decays the score with the age of the posting.
+ * The index is loaded once on startup and kept current by {@code JobPostActivityService};
+ * every change is forwarded to {@link JobSearchCache} so it can drop the pages it affects.
+ * Changes that arrive while a rebuild is reading the database are recorded and replayed over the
+ * rebuilt index, so they are neither lost nor undone by the older snapshot.
+ * Until it is loaded, callers should fall back to the repository queries.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    private static final Comparator<IndexedJob> NEWEST_FIRST = Comparator
+            .comparingLong(IndexedJob::getPostedAt).reversed()
+            .thenComparing(Comparator.comparingInt(IndexedJob::getJobPostId).reversed());
+
+    private static final Comparator<Scored> BEST_FIRST = Comparator
+            .comparingDouble((Scored scored) -> scored.score).reversed()
+            .thenComparing(Comparator.comparingInt((Scored scored) -> scored.document.getJobPostId()).reversed());
+
+    private static final int MAX_LOCATION_FACETS = 20;
+
+    private static final int DESCRIPTION_BATCH_SIZE = 1000;
+
+    // BM25 parameters (the usual defaults) and the weight of a title hit relative to a description hit
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_BOOST = 3.0;
+
+    // Recency decay: a posting loses half of RECENCY_WEIGHT every RECENCY_HALF_LIFE_DAYS
+    private static final double RECENCY_WEIGHT = 0.3;
+    private static final double RECENCY_HALF_LIFE_DAYS = 14.0;
+
+    // Posted-age buckets, matching the "days" request parameter
+    private static final int[] POSTED_WITHIN_DAYS = {1, 7, 30};
+
+    private final JobPostActivityRepository jobPostActivityRepository;
+    private final JobSearchCache jobSearchCache;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, BitSet> titleTerms = new TreeMap<>();
+    private final NavigableMap<String, BitSet> locationTerms = new TreeMap<>();
+    private final FacetField jobTypes = new FacetField();
+    private final FacetField remoteOptions = new FacetField();
+    private final FacetField countries = new FacetField();
+    private final FacetField states = new FacetField();
+    private final FacetField cities = new FacetField();
+    private final NavigableMap<Long, BitSet> postedDays = new TreeMap<>();
+    private final Map<String, DescriptionTerm> descriptionTerms = new HashMap<>();
+    private final Map<Integer, IndexedJob> documents = new HashMap<>();
+    private final BitSet liveDocs = new BitSet();
+    private long totalTitleLength;
+    private long totalDescriptionLength;
+    // Latest version of each job changed since the running rebuild started (null value: deleted);
+    // null when no rebuild is running. Guarded by the write lock.
+    private Map<Integer, IndexedJob> changedDuringRebuild;
+
+    private volatile boolean ready;
+
+    public JobSearchIndex(JobPostActivityRepository jobPostActivityRepository, JobSearchCache jobSearchCache) {
+        this.jobPostActivityRepository = jobPostActivityRepository;
+        this.jobSearchCache = jobSearchCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            List<IndexedJob> loaded = load();
+            lock.writeLock().lock();
+            try {
+                titleTerms.clear();
+                locationTerms.clear();
+                jobTypes.clear();
+                remoteOptions.clear();
+                countries.clear();
+                states.clear();
+                cities.clear();
+                postedDays.clear();
+                descriptionTerms.clear();
+                documents.clear();
+                liveDocs.clear();
+                totalTitleLength = 0;
+                totalDescriptionLength = 0;
+                for (IndexedJob document : loaded) {
+                    add(document);
+                }
+                for (Map.Entry<Integer, IndexedJob> change : changedDuringRebuild.entrySet()) {
+                    remove(change.getKey(), documents.get(change.getKey()));
+                    if (change.getValue() != null) {
+                        add(change.getValue());
+                    }
+                }
+                ready = true;
+            } finally {
+                changedDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+            jobSearchCache.invalidateAll();
+            logger.info("Job search index built with {} jobs in {} ms", loaded.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("Failed to build job search index, searches will use the database", e);
+        }
+    }
+
+    /**
+     * Read every job, pairing the search rows with their descriptions batch by batch so that
+     * only one batch of raw description text is held at a time
+     */
+    private List<IndexedJob> load() {
+        Map<Integer, IJobSearchDocument> rows = new HashMap<>();
+        for (IJobSearchDocument row : jobPostActivityRepository.findAllSearchDocuments()) {
+            rows.put(row.getJobPostId(), row);
+        }
+        List<IndexedJob> loaded = new ArrayList<>(rows.size());
+        int afterId = 0;
+        List<IJobDescription> batch;
+        do {
+            batch = jobPostActivityRepository.findDescriptionsAfter(afterId, PageRequest.of(0, DESCRIPTION_BATCH_SIZE));
+            for (IJobDescription description : batch) {
+                IJobSearchDocument row = rows.remove(description.getJobPostId());
+                if (row != null) {
+                    loaded.add(IndexedJob.from(row, description.getDescriptionOfJob()));
+                }
+                afterId = description.getJobPostId();
+            }
+        } while (batch.size() == DESCRIPTION_BATCH_SIZE);
+        // Jobs inserted while loading; they are indexed again when saved anyway
+        for (IJobSearchDocument row : rows.values()) {
+            loaded.add(IndexedJob.from(row, null));
+        }
+        return loaded;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Add or replace a job after it has been saved
+     */
+    public void index(JobPostActivity job) {
+        if (job == null || job.getJobPostId() == null) {
+            return;
+        }
+        IndexedJob document = IndexedJob.from(job);
+        IndexedJob previous;
+        lock.writeLock().lock();
+        try {
+            previous = documents.get(document.getJobPostId());
+            remove(document.getJobPostId(), previous);
+            add(document);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(document.getJobPostId(), document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        jobSearchCache.invalidate(document.getJobPostId(), previous, document);
+    }
+
+    /**
+     * Drop a job after it has been deleted
+     */
+    public void remove(int jobPostId) {
+        IndexedJob previous;
+        lock.writeLock().lock();
+        try {
+            previous = documents.get(jobPostId);
+            remove(jobPostId, previous);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(jobPostId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        jobSearchCache.invalidate(jobPostId, previous, null);
+    }
+
+    /**
+     * Return matching job IDs, newest first
+     */
+    public List<Integer> search(JobSearchQuery query) {
+        lock.readLock().lock();
+        try {
+            BitSet hits = match(query);
+            List<IndexedJob> matched = new ArrayList<>(hits.cardinality());
+            for (int id = hits.nextSetBit(0); id >= 0; id = hits.nextSetBit(id + 1)) {
+                matched.add(documents.get(id));
+            }
+            matched.sort(NEWEST_FIRST);
+            List<Integer> ids = new ArrayList<>(matched.size());
+            for (IndexedJob document : matched) {
+                ids.add(document.getJobPostId());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return one page of matching job IDs, newest first, starting after the given cursor,
+     * together with the facet counts for the whole result set.
+     * Only the requested page is sorted: a bounded heap keeps the size + 1 newest candidates.
+     */
+    public JobSearchPage searchPage(JobSearchQuery query, JobCursor after, int size) {
+        lock.readLock().lock();
+        try {
+            BitSet text = textMatch(query);
+            BitSet typeFilter = query.getJobTypes() != null ? jobTypes.union(query.getJobTypes()) : null;
+            BitSet remoteFilter = query.getRemoteOptions() != null ? remoteOptions.union(query.getRemoteOptions()) : null;
+            BitSet dateFilter = query.getPostedSince() != null ? postedSince(query.getPostedSince()) : null;
+            BitSet hits = intersect(text, typeFilter, remoteFilter, dateFilter);
+            // Heap head is the oldest candidate kept so far, i.e. the first one to evict
+            PriorityQueue<IndexedJob> window = new PriorityQueue<>(size + 2, NEWEST_FIRST.reversed());
+            for (int id = hits.nextSetBit(0); id >= 0; id = hits.nextSetBit(id + 1)) {
+                IndexedJob document = documents.get(id);
+                if (after != null && !after.precedes(document.getPostedAt(), id)) {
+                    continue;
+                }
+                window.offer(document);
+                if (window.size() > size + 1) {
+                    window.poll();
+                }
+            }
+            List<IndexedJob> page = new ArrayList<>(window);
+            page.sort(NEWEST_FIRST);
+            String next = null;
+            if (page.size() > size) {
+                page.remove(size);
+                next = JobCursor.of(page.get(size - 1)).encode();
+            }
+            List<Integer> ids = new ArrayList<>(page.size());
+            for (IndexedJob document : page) {
+                ids.add(document.getJobPostId());
+            }
+            Map<String, Map<String, Integer>> facets = facets(text, hits, typeFilter, remoteFilter, dateFilter);
+            return new JobSearchPage(ids, next, hits.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return one page of matching job IDs ranked by relevance to the keyword, starting after the
+     * given cursor. Unlike {@link #searchPage}, keywords also match description words (exactly;
+     * title words still match by prefix). Only the page itself is sorted, via a bounded heap.
+     * Later pages score recency as of the cursor's time rather than now, so scores match the first page.
+     */
+    public JobSearchPage rankPage(JobSearchQuery query, RankCursor after, int size) {
+        lock.readLock().lock();
+        try {
+            List<String> tokens = SearchText.tokens(query.getKeyword());
+            BitSet text = locationMatch(query);
+            double[] idf = new double[tokens.size()];
+            for (int i = 0; i < tokens.size(); i++) {
+                BitSet matched = prefixUnion(titleTerms, tokens.get(i));
+                DescriptionTerm term = descriptionTerms.get(tokens.get(i));
+                if (term != null) {
+                    matched.or(term.postings);
+                }
+                text.and(matched);
+                int df = matched.cardinality();
+                idf[i] = Math.log(1 + (documents.size() - df + 0.5) / (df + 0.5));
+            }
+            BitSet typeFilter = query.getJobTypes() != null ? jobTypes.union(query.getJobTypes()) : null;
+            BitSet remoteFilter = query.getRemoteOptions() != null ? remoteOptions.union(query.getRemoteOptions()) : null;
+            BitSet dateFilter = query.getPostedSince() != null ? postedSince(query.getPostedSince()) : null;
+            BitSet hits = intersect(text, typeFilter, remoteFilter, dateFilter);
+
+            double avgTitleLength = Math.max(1.0, (double) totalTitleLength / Math.max(1, documents.size()));
+            double avgDescriptionLength = Math.max(1.0, (double) totalDescriptionLength / Math.max(1, documents.size()));
+            long now = after != null ? after.getScoredAt() : System.currentTimeMillis();
+            // Heap head is the weakest candidate kept so far, i.e. the first one to evict
+            PriorityQueue<Scored> window = new PriorityQueue<>(size + 2, BEST_FIRST.reversed());
+            for (int id = hits.nextSetBit(0); id >= 0; id = hits.nextSetBit(id + 1)) {
+                IndexedJob document = documents.get(id);
+                double score = score(document, tokens, idf, avgTitleLength, avgDescriptionLength, now);
+                if (after != null && !after.precedes(score, id)) {
+                    continue;
+                }
+                window.offer(new Scored(document, score));
+                if (window.size() > size + 1) {
+                    window.poll();
+                }
+            }
+            List<Scored> page = new ArrayList<>(window);
+            page.sort(BEST_FIRST);
+            String next = null;
+            if (page.size() > size) {
+                page.remove(size);
+                Scored last = page.get(size - 1);
+                next = new RankCursor(now, last.score, last.document.getJobPostId()).encode();
+            }
+            List<Integer> ids = new ArrayList<>(page.size());
+            for (Scored scored : page) {
+                ids.add(scored.document.getJobPostId());
+            }
+            Map<String, Map<String, Integer>> facets = facets(text, hits, typeFilter, remoteFilter, dateFilter);
+            return new JobSearchPage(ids, next, hits.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25F over title and description, scaled down for older postings (undated ones count as oldest)
+     */
+    private static double score(IndexedJob document, List<String> tokens, double[] idf,
+                                double avgTitleLength, double avgDescriptionLength, long now) {
+        double titleNorm = 1 - B + B * document.getTitleLength() / avgTitleLength;
+        double descriptionNorm = 1 - B + B * document.getDescriptionLength() / avgDescriptionLength;
+        double score = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            double tf = TITLE_BOOST * document.titleFrequency(tokens.get(i)) / titleNorm
+                    + document.descriptionFrequency(tokens.get(i)) / descriptionNorm;
+            score += idf[i] * tf * (K1 + 1) / (tf + K1);
+        }
+        double freshness = 0;
+        if (document.getPostedAt() != IndexedJob.NO_DATE) {
+            double ageDays = Math.max(0, now - document.getPostedAt()) / 86_400_000.0;
+            freshness = Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+        }
+        return score * (1 - RECENCY_WEIGHT + RECENCY_WEIGHT * freshness);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet match(JobSearchQuery query) {
+        return intersect(textMatch(query),
+                query.getJobTypes() != null ? jobTypes.union(query.getJobTypes()) : null,
+                query.getRemoteOptions() != null ? remoteOptions.union(query.getRemoteOptions()) : null,
+                query.getPostedSince() != null ? postedSince(query.getPostedSince()) : null);
+    }
+
+    /**
+     * Live jobs matching the keyword and location text, before any facet filter
+     */
+    private BitSet textMatch(JobSearchQuery query) {
+        BitSet hits = locationMatch(query);
+        for (String token : SearchText.tokens(query.getKeyword())) {
+            hits.and(prefixUnion(titleTerms, token));
+        }
+        return hits;
+    }
+
+    private BitSet locationMatch(JobSearchQuery query) {
+        BitSet hits = (BitSet) liveDocs.clone();
+        for (String token : SearchText.tokens(query.getLocation())) {
+            hits.and(prefixUnion(locationTerms, token));
+        }
+        return hits;
+    }
+
+    /**
+     * Jobs posted on or after the given day
+     */
+    private BitSet postedSince(LocalDate day) {
+        BitSet union = new BitSet();
+        for (BitSet postings : postedDays.tailMap(day.toEpochDay(), true).values()) {
+            union.or(postings);
+        }
+        return union;
+    }
+
+    /**
+     * Facet counts over the current result. Each of jobType, remote and posted age is counted with
+     * every filter applied except its own, so the other values of a selected filter keep their counts;
+     * location values are counted over the hits themselves.
+     */
+    private Map<String, Map<String, Integer>> facets(BitSet text, BitSet hits, BitSet typeFilter,
+                                                     BitSet remoteFilter, BitSet dateFilter) {
+        BitSet scratch = new BitSet();
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        facets.put("jobType", jobTypes.counts(intersect(text, remoteFilter, dateFilter), scratch, Integer.MAX_VALUE));
+        facets.put("remote", remoteOptions.counts(intersect(text, typeFilter, dateFilter), scratch, Integer.MAX_VALUE));
+        facets.put("country", countries.counts(hits, scratch, MAX_LOCATION_FACETS));
+        facets.put("state", states.counts(hits, scratch, MAX_LOCATION_FACETS));
+        facets.put("city", cities.counts(hits, scratch, MAX_LOCATION_FACETS));
+
+        // Buckets are cumulative, like the "days" filter: posted within the last N days
+        BitSet ageBase = intersect(text, typeFilter, remoteFilter);
+        Map<String, Integer> postedWithin = new LinkedHashMap<>();
+        LocalDate today = LocalDate.now();
+        for (int days : POSTED_WITHIN_DAYS) {
+            scratch.clear();
+            scratch.or(postedSince(today.minusDays(days)));
+            scratch.and(ageBase);
+            postedWithin.put(String.valueOf(days), scratch.cardinality());
+        }
+        facets.put("postedWithin", postedWithin);
+        return facets;
+    }
+
+    /**
+     * AND of the given bitsets into a new one; null arguments are skipped
+     */
+    private static BitSet intersect(BitSet first, BitSet... filters) {
+        BitSet result = (BitSet) first.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static BitSet prefixUnion(NavigableMap<String, BitSet> terms, String prefix) {
+        BitSet union = new BitSet();
+        for (BitSet postings : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            union.or(postings);
+        }
+        return union;
+    }
+
+    private void add(IndexedJob document) {
+        int id = document.getJobPostId();
+        documents.put(id, document);
+        liveDocs.set(id);
+        for (String term : document.getTitleTerms()) {
+            titleTerms.computeIfAbsent(term, k -> new BitSet()).set(id);
+        }
+        for (String term : document.getLocationTerms()) {
+            locationTerms.computeIfAbsent(term, k -> new BitSet()).set(id);
+        }
+        jobTypes.add(document.getJobType(), id);
+        remoteOptions.add(document.getRemote(), id);
+        countries.add(document.getCountry(), id);
+        states.add(document.getState(), id);
+        cities.add(document.getCity(), id);
+        if (document.getPostedAt() != IndexedJob.NO_DATE) {
+            postedDays.computeIfAbsent(document.getPostedDay(), k -> new BitSet()).set(id);
+        }
+        String[] terms = document.getDescriptionTerms();
+        for (int i = 0; i < terms.length; i++) {
+            DescriptionTerm term = descriptionTerms.computeIfAbsent(terms[i], DescriptionTerm::new);
+            term.postings.set(id);
+            // Share one String per distinct word across all documents
+            terms[i] = term.text;
+        }
+        totalTitleLength += document.getTitleLength();
+        totalDescriptionLength += document.getDescriptionLength();
+    }
+
+    private void remove(int id, IndexedJob document) {
+        if (document == null) {
+            return;
+        }
+        documents.remove(id);
+        liveDocs.clear(id);
+        for (String term : document.getTitleTerms()) {
+            clear(titleTerms, term, id);
+        }
+        for (String term : document.getLocationTerms()) {
+            clear(locationTerms, term, id);
+        }
+        jobTypes.remove(document.getJobType(), id);
+        remoteOptions.remove(document.getRemote(), id);
+        countries.remove(document.getCountry(), id);
+        states.remove(document.getState(), id);
+        cities.remove(document.getCity(), id);
+        if (document.getPostedAt() != IndexedJob.NO_DATE) {
+            clear(postedDays, document.getPostedDay(), id);
+        }
+        for (String text : document.getDescriptionTerms()) {
+            DescriptionTerm term = descriptionTerms.get(text);
+            if (term != null) {
+                term.postings.clear(id);
+                if (term.postings.isEmpty()) {
+                    descriptionTerms.remove(text);
+                }
+            }
+        }
+        totalTitleLength -= document.getTitleLength();
+        totalDescriptionLength -= document.getDescriptionLength();
+    }
+
+    private static <K> void clear(Map<K, BitSet> postings, K key, int id) {
+        BitSet bits = postings.get(key);
+        if (bits != null) {
+            bits.clear(id);
+            if (bits.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static final class DescriptionTerm {
+        private final String text;
+        private final BitSet postings = new BitSet();
+
+        private DescriptionTerm(String text) {
+            this.text = text;
+        }
+    }
+
+    private static final class Scored {
+        private final IndexedJob document;
+        private final double score;
+
+        private Scored(IndexedJob document, double score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+}
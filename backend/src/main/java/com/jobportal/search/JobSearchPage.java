@@ -0,0 +1,48 @@
+package com.jobportal.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of job IDs from {@link JobSearchIndex}, newest first.
+ */
+public class JobSearchPage {
+
+    private final List<Integer> jobPostIds;
+    private final String nextCursor;
+    private final long total;
+    private final Map<String, Map<String, Integer>> facets;
+
+    JobSearchPage(List<Integer> jobPostIds, String nextCursor, long total,
+                  Map<String, Map<String, Integer>> facets) {
+        this.jobPostIds = jobPostIds;
+        this.nextCursor = nextCursor;
+        this.total = total;
+        this.facets = facets;
+    }
+
+    public List<Integer> getJobPostIds() {
+        return jobPostIds;
+    }
+
+    /**
+     * Encoded cursor for the following page, or null if this is the last one
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Number of jobs matching the query across all pages
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Job counts per facet value, keyed by facet name (jobType, remote, country, state, city, postedWithin)
+     */
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+}
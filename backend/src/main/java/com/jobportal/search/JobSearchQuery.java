@@ -0,0 +1,46 @@
+package com.jobportal.search;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filters accepted by {@link JobSearchIndex}. A null list means "no filter on this field";
+ * a non-null list behaves like SQL {@code IN (...)}.
+ */
+public class JobSearchQuery {
+
+    private final String keyword;
+    private final String location;
+    private final List<String> jobTypes;
+    private final List<String> remoteOptions;
+    private final LocalDate postedSince;
+
+    public JobSearchQuery(String keyword, String location, List<String> jobTypes,
+                          List<String> remoteOptions, LocalDate postedSince) {
+        this.keyword = keyword;
+        this.location = location;
+        this.jobTypes = jobTypes;
+        this.remoteOptions = remoteOptions;
+        this.postedSince = postedSince;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public List<String> getJobTypes() {
+        return jobTypes;
+    }
+
+    public List<String> getRemoteOptions() {
+        return remoteOptions;
+    }
+
+    public LocalDate getPostedSince() {
+        return postedSince;
+    }
+}
@@ -0,0 +1,253 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.IJobSearchDocument;
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.repository.JobPostActivityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over job titles, backed by an in-memory prefix trie.
+ *
+ * Every word-start suffix of a title is inserted ("senior java developer", "java developer",
+ * "developer"), so typing any word of a title finds it. Titles are weighted by the number of live
+ * jobs using them; each node caches the largest weight below it, which lets {@link #suggest} walk
+ * the subtree best-first and stop after {@code limit} titles instead of visiting every completion.
+ * Kept current by {@code JobPostActivityService}; never touches the database after startup.
+ */
+@Component
+public class JobTitleSuggester {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobTitleSuggester.class);
+
+    private final JobPostActivityRepository jobPostActivityRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<String, Title> titles = new HashMap<>();
+    private final Map<Integer, String> titleKeysByJob = new HashMap<>();
+
+    public JobTitleSuggester(JobPostActivityRepository jobPostActivityRepository) {
+        this.jobPostActivityRepository = jobPostActivityRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            List<IJobSearchDocument> rows = jobPostActivityRepository.findAllSearchDocuments();
+            lock.writeLock().lock();
+            try {
+                root.children.clear();
+                root.titles.clear();
+                root.maxWeight = 0;
+                titles.clear();
+                titleKeysByJob.clear();
+                for (IJobSearchDocument row : rows) {
+                    add(row.getJobPostId(), row.getJobTitle());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Job title suggester built with {} titles in {} ms", titles.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Failed to build job title suggester", e);
+        }
+    }
+
+    /**
+     * Add or replace a job's title after it has been saved
+     */
+    public void index(JobPostActivity job) {
+        if (job == null || job.getJobPostId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            remove(job.getJobPostId());
+            add(job.getJobPostId(), job.getJobTitle());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a job's title after it has been deleted
+     */
+    public void remove(int jobPostId) {
+        lock.writeLock().lock();
+        try {
+            String key = titleKeysByJob.remove(jobPostId);
+            Title title = key != null ? titles.get(key) : null;
+            if (title == null) {
+                return;
+            }
+            title.weight--;
+            if (title.weight == 0) {
+                titles.remove(key);
+            }
+            for (String suffix : suffixes(key)) {
+                update(suffix, title, title.weight == 0);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Most used titles containing a word that starts with the given text, most jobs first
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        List<String> suggestions = new ArrayList<>();
+        if (key.isEmpty() || limit <= 0) {
+            return suggestions;
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return suggestions;
+            }
+            // Nodes are queued with the best weight below them, titles with their own weight;
+            // a title popped from the queue is therefore never beaten by anything still queued
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(
+                    Comparator.comparingInt((Candidate candidate) -> candidate.weight).reversed());
+            queue.offer(new Candidate(node, null, node.maxWeight));
+            Set<Title> seen = new HashSet<>();
+            while (!queue.isEmpty() && suggestions.size() < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.title != null) {
+                    if (seen.add(candidate.title)) {
+                        suggestions.add(candidate.title.label);
+                    }
+                    continue;
+                }
+                for (Title title : candidate.node.titles) {
+                    queue.offer(new Candidate(null, title, title.weight));
+                }
+                for (Node child : candidate.node.children.values()) {
+                    queue.offer(new Candidate(child, null, child.maxWeight));
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Integer jobPostId, String jobTitle) {
+        String key = normalize(jobTitle);
+        if (jobPostId == null || key.isEmpty()) {
+            return;
+        }
+        titleKeysByJob.put(jobPostId, key);
+        Title title = titles.computeIfAbsent(key, k -> new Title(jobTitle.trim()));
+        title.weight++;
+        for (String suffix : suffixes(key)) {
+            update(suffix, title, false);
+        }
+    }
+
+    /**
+     * Walk the path of one suffix, attaching (or detaching) the title at its end and refreshing
+     * the cached max weights on the way back up; empty nodes are pruned
+     */
+    private void update(String suffix, Title title, boolean detach) {
+        Node[] path = new Node[suffix.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < suffix.length(); i++) {
+            Node next = path[i].children.get(suffix.charAt(i));
+            if (next == null) {
+                if (detach) {
+                    return;
+                }
+                next = new Node();
+                path[i].children.put(suffix.charAt(i), next);
+            }
+            path[i + 1] = next;
+        }
+        if (detach) {
+            path[suffix.length()].titles.remove(title);
+        } else {
+            path[suffix.length()].titles.add(title);
+        }
+        for (int i = suffix.length(); i >= 0; i--) {
+            Node node = path[i];
+            node.refreshMaxWeight();
+            if (i > 0 && node.titles.isEmpty() && node.children.isEmpty()) {
+                path[i - 1].children.remove(suffix.charAt(i - 1));
+            }
+        }
+    }
+
+    /**
+     * Folded title with single spaces, e.g. "  Sr. Java-Developer " -> "sr java developer"
+     */
+    private static String normalize(String text) {
+        return String.join(" ", SearchText.tokens(text));
+    }
+
+    private static List<String> suffixes(String key) {
+        List<String> suffixes = new ArrayList<>();
+        suffixes.add(key);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            suffixes.add(key.substring(i + 1));
+        }
+        return suffixes;
+    }
+
+    private static final class Title {
+        private final String label;
+        private int weight;
+
+        private Title(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class Candidate {
+        private final Node node;
+        private final Title title;
+        private final int weight;
+
+        private Candidate(Node node, Title title, int weight) {
+            this.node = node;
+            this.title = title;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Title> titles = new HashSet<>();
+        private int maxWeight;
+
+        private void refreshMaxWeight() {
+            int max = 0;
+            for (Title title : titles) {
+                max = Math.max(max, title.weight);
+            }
+            for (Node child : children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+}
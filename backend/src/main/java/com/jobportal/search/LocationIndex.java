@@ -0,0 +1,246 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.LocationSuggestionDto;
+import com.jobportal.entity.IJobSearchDocument;
+import com.jobportal.entity.JobLocation;
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.repository.JobLocationRepository;
+import com.jobportal.repository.JobPostActivityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory autocomplete over job locations.
+ *
+ * City, state and country are tokenised and folded like the job search index, so "sao" finds
+ * "São Paulo" and "york" finds "New York". Matches are ranked by the number of jobs posted at the
+ * location. Locations are added by {@code JobDataRestController} when created; job counts follow
+ * job saves and deletes through {@code JobPostActivityService}.
+ */
+@Component
+public class LocationIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationIndex.class);
+
+    private static final Comparator<Entry> MOST_JOBS_FIRST = Comparator
+            .comparingInt((Entry entry) -> entry.jobCount).reversed()
+            .thenComparing(entry -> SearchText.fold(entry.location.getCity()))
+            .thenComparingInt(entry -> entry.location.getId());
+
+    private final JobLocationRepository jobLocationRepository;
+    private final JobPostActivityRepository jobPostActivityRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, BitSet> cityTerms = new TreeMap<>();
+    private final NavigableMap<String, BitSet> stateTerms = new TreeMap<>();
+    private final NavigableMap<String, BitSet> countryTerms = new TreeMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Integer, Integer> locationsByJob = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public LocationIndex(JobLocationRepository jobLocationRepository,
+                         JobPostActivityRepository jobPostActivityRepository) {
+        this.jobLocationRepository = jobLocationRepository;
+        this.jobPostActivityRepository = jobPostActivityRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            List<JobLocation> locations = jobLocationRepository.findAll();
+            List<IJobSearchDocument> jobs = jobPostActivityRepository.findAllSearchDocuments();
+            lock.writeLock().lock();
+            try {
+                cityTerms.clear();
+                stateTerms.clear();
+                countryTerms.clear();
+                entries.clear();
+                locationsByJob.clear();
+                for (JobLocation location : locations) {
+                    add(location);
+                }
+                for (IJobSearchDocument job : jobs) {
+                    attach(job.getJobPostId(), job.getLocationId());
+                }
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Location index built with {} locations in {} ms", locations.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Failed to build location index, location search will use the database", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Add a location after it has been created
+     */
+    public void index(JobLocation location) {
+        if (location == null || location.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!entries.containsKey(location.getId())) {
+                add(location);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move a job's count to its current location after it has been saved
+     */
+    public void indexJob(JobPostActivity job) {
+        if (job == null || job.getJobPostId() == null) {
+            return;
+        }
+        JobLocation location = job.getJobLocationId();
+        lock.writeLock().lock();
+        try {
+            detach(job.getJobPostId());
+            if (location != null && location.getId() != null && !entries.containsKey(location.getId())) {
+                add(location);
+            }
+            attach(job.getJobPostId(), location != null ? location.getId() : null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a job's count after it has been deleted
+     */
+    public void removeJob(int jobPostId) {
+        lock.writeLock().lock();
+        try {
+            detach(jobPostId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Top locations whose city, state and country start with the given words (blank fields are ignored),
+     * most jobs first. With no text at all this returns the busiest locations.
+     */
+    public List<LocationSuggestionDto> search(String city, String state, String country, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet hits = null;
+            hits = restrict(hits, cityTerms, city);
+            hits = restrict(hits, stateTerms, state);
+            hits = restrict(hits, countryTerms, country);
+
+            // Bounded heap: head is the weakest of the best `limit` matches so far
+            PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, MOST_JOBS_FIRST.reversed());
+            if (hits == null) {
+                for (Entry entry : entries.values()) {
+                    offer(top, entry, limit);
+                }
+            } else {
+                for (int id = hits.nextSetBit(0); id >= 0; id = hits.nextSetBit(id + 1)) {
+                    offer(top, entries.get(id), limit);
+                }
+            }
+            List<Entry> ranked = new ArrayList<>(top);
+            ranked.sort(MOST_JOBS_FIRST);
+            List<LocationSuggestionDto> suggestions = new ArrayList<>(ranked.size());
+            for (Entry entry : ranked) {
+                JobLocation location = entry.location;
+                suggestions.add(new LocationSuggestionDto(location.getId(), location.getCity(),
+                        location.getState(), location.getCountry(), entry.jobCount));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void offer(PriorityQueue<Entry> top, Entry entry, int limit) {
+        top.offer(entry);
+        if (top.size() > limit) {
+            top.poll();
+        }
+    }
+
+    /**
+     * AND the locations matching every word of {@code text} into {@code hits}; null hits means "all"
+     */
+    private static BitSet restrict(BitSet hits, NavigableMap<String, BitSet> terms, String text) {
+        for (String token : SearchText.tokens(text)) {
+            BitSet union = new BitSet();
+            for (BitSet postings : terms.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                union.or(postings);
+            }
+            if (hits == null) {
+                hits = union;
+            } else {
+                hits.and(union);
+            }
+        }
+        return hits;
+    }
+
+    private void add(JobLocation location) {
+        // Keep a detached copy so later changes to the entity don't leak into the index
+        JobLocation copy = new JobLocation(location.getId(), location.getCity(), location.getState(), location.getCountry());
+        entries.put(copy.getId(), new Entry(copy));
+        addTerms(cityTerms, copy.getCity(), copy.getId());
+        addTerms(stateTerms, copy.getState(), copy.getId());
+        addTerms(countryTerms, copy.getCountry(), copy.getId());
+    }
+
+    private static void addTerms(NavigableMap<String, BitSet> terms, String text, int id) {
+        for (String token : SearchText.tokens(text)) {
+            terms.computeIfAbsent(token, k -> new BitSet()).set(id);
+        }
+    }
+
+    private void attach(Integer jobPostId, Integer locationId) {
+        Entry entry = locationId != null ? entries.get(locationId) : null;
+        if (jobPostId == null || entry == null) {
+            return;
+        }
+        entry.jobCount++;
+        locationsByJob.put(jobPostId, locationId);
+    }
+
+    private void detach(int jobPostId) {
+        Integer locationId = locationsByJob.remove(jobPostId);
+        Entry entry = locationId != null ? entries.get(locationId) : null;
+        if (entry != null) {
+            entry.jobCount--;
+        }
+    }
+
+    private static final class Entry {
+        private final JobLocation location;
+        private int jobCount;
+
+        private Entry(JobLocation location) {
+            this.location = location;
+        }
+    }
+}
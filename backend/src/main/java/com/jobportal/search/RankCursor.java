@@ -0,0 +1,77 @@
+package com.jobportal.search;
+
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a relevance-ranked result list, ordered by (score DESC, jobPostId DESC).
+ *
+ * Carries the time the first page was scored at: the recency decay is applied as of that time on
+ * every later page, so a job's score does not drift downwards between requests and the last job of
+ * one page cannot reappear on the next. Changes to the index itself (new jobs, shifted IDF) can
+ * still move jobs across a page boundary, as with any live result list.
+ *
+ * Encoded with a different prefix from {@link JobCursor}, so a cursor from one ordering is
+ * rejected by the other instead of silently skipping results.
+ */
+public final class RankCursor {
+
+    private static final String PREFIX = "r:";
+
+    private final long scoredAt;
+    private final double score;
+    private final int jobPostId;
+
+    RankCursor(long scoredAt, double score, int jobPostId) {
+        this.scoredAt = scoredAt;
+        this.score = score;
+        this.jobPostId = jobPostId;
+    }
+
+    /**
+     * Decode a cursor sent by a client; returns null for a missing cursor (first page)
+     *
+     * @throws IllegalArgumentException if the cursor was not produced by {@link #encode()}
+     */
+    public static RankCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Not a relevance cursor");
+            }
+            String[] parts = raw.substring(PREFIX.length()).split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed relevance cursor");
+            }
+            return new RankCursor(Long.parseLong(parts[0]), Double.longBitsToDouble(Long.parseLong(parts[1])),
+                    Integer.parseInt(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        // Raw bits, so the score round-trips exactly and ties are resolved the same way
+        String raw = PREFIX + scoredAt + ":" + Double.doubleToLongBits(score) + ":" + jobPostId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Time (epoch millis) the ranking this cursor points into was scored at
+     */
+    long getScoredAt() {
+        return scoredAt;
+    }
+
+    /**
+     * True if a job with the given score comes after this cursor in the ranking
+     */
+    boolean precedes(double score, int jobPostId) {
+        return score < this.score || (score == this.score && jobPostId < this.jobPostId);
+    }
+}
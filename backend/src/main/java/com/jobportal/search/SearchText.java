@@ -0,0 +1,64 @@
+package com.jobportal.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Text normalisation shared by the in-memory search indexes.
+ * Folding mirrors the case- and accent-insensitive utf8mb4_0900_ai_ci collation used by MySQL.
+ */
+public final class SearchText {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern MARKUP = Pattern.compile("<[^>]*>|&#?[a-zA-Z0-9]+;");
+
+    private SearchText() {
+    }
+
+    /**
+     * Lower-case and strip accents, e.g. "São Paulo" -> "sao paulo"
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Replace HTML tags and entities from the rich-text job description editor with spaces
+     */
+    public static String stripMarkup(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return MARKUP.matcher(text).replaceAll(" ");
+    }
+
+    /**
+     * Split folded text into letter/digit runs, e.g. "Sr. Java-Developer" -> [sr, java, developer]
+     */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i < folded.length(); i++) {
+            if (Character.isLetterOrDigit(folded.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(folded.substring(start));
+        }
+        return tokens;
+    }
+}
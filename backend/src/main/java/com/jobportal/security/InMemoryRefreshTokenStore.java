@@ -0,0 +1,87 @@
+package com.jobportal.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Refresh token state held in this node's memory; entries expire with the tokens they describe. Only
+ * correct for a single node, and lost on restart (refresh tokens issued before then stop working).
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.refresh-token-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int MAX_ENTRIES = 500_000;
+
+    private final Cache<String, Entry> tokens = newCache();
+    private final Cache<String, Entry> revokedFamilies = newCache();
+
+    @Override
+    public void add(String tokenId, Duration ttl) {
+        tokens.put(tokenId, new Entry(expiresAt(ttl), false));
+    }
+
+    @Override
+    public State markUsed(String tokenId) {
+        State[] before = {State.UNKNOWN};
+        tokens.asMap().computeIfPresent(tokenId, (id, entry) -> {
+            before[0] = entry.used ? State.USED : State.UNUSED;
+            return entry.used ? entry : new Entry(entry.expiresAt, true);
+        });
+        return before[0];
+    }
+
+    @Override
+    public void revokeFamily(String familyId, Duration ttl) {
+        revokedFamilies.put(familyId, new Entry(expiresAt(ttl), true));
+    }
+
+    @Override
+    public boolean isFamilyRevoked(String familyId) {
+        return revokedFamilies.getIfPresent(familyId) != null;
+    }
+
+    private static long expiresAt(Duration ttl) {
+        return System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private static Cache<String, Entry> newCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        long remainingMs = entry.expiresAt - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    private static final class Entry {
+        private final long expiresAt;
+        private final boolean used;
+
+        private Entry(long expiresAt, boolean used) {
+            this.expiresAt = expiresAt;
+            this.used = used;
+        }
+    }
+}
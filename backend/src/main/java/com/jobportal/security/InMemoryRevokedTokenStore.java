@@ -0,0 +1,66 @@
+package com.jobportal.security;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Revoked token IDs held in this node's memory until their tokens expire. Only correct for a single
+ * node, and lost on restart.
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.revoked-token-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRevokedTokenStore implements RevokedTokenStore {
+
+    // Value is the expiry time in epoch milliseconds
+    private final Cache<String, Long> revoked = Caffeine.newBuilder()
+            .expireAfter(new Expiry<String, Long>() {
+                @Override
+                public long expireAfterCreate(String key, Long expiresAt, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(expiresAt - System.currentTimeMillis(), 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Long expiresAt, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, expiresAt, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, Long expiresAt, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void revoke(String tokenId, Duration ttl) {
+        revoked.put(tokenId, System.currentTimeMillis() + ttl.toMillis());
+        listeners.forEach(listener -> listener.accept(tokenId));
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return revoked.getIfPresent(tokenId) != null;
+    }
+
+    @Override
+    public void forEachRevoked(Consumer<String> action) {
+        revoked.asMap().keySet().forEach(action);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
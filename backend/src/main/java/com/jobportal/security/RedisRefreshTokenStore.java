@@ -0,0 +1,64 @@
+package com.jobportal.security;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refresh token state in Redis, shared by every node. Each token is a key holding "0" (unused) or
+ * "1" (used) and each revoked family a key, all expiring with the tokens they describe.
+ */
+@Component
+@ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+@ConditionalOnProperty(name = "app.auth.refresh-token-store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_PREFIX = "refresh:token:";
+    private static final String REVOKED_FAMILY_PREFIX = "refresh:revoked-family:";
+
+    private static final String UNUSED = "0";
+    private static final String USED = "1";
+
+    // Read and flip the flag in one step, keeping the key's expiry (KEEPTTL needs Redis 6)
+    private static final RedisScript<String> MARK_USED = new DefaultRedisScript<>(
+            "local state = redis.call('GET', KEYS[1]) " +
+            "if state == '" + UNUSED + "' then redis.call('SET', KEYS[1], '" + USED + "', 'KEEPTTL') end " +
+            "return state",
+            String.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void add(String tokenId, Duration ttl) {
+        redisTemplate.opsForValue().set(TOKEN_PREFIX + tokenId, UNUSED, ttl);
+    }
+
+    @Override
+    public State markUsed(String tokenId) {
+        String before = redisTemplate.execute(MARK_USED, List.of(TOKEN_PREFIX + tokenId));
+        if (UNUSED.equals(before)) {
+            return State.UNUSED;
+        }
+        return USED.equals(before) ? State.USED : State.UNKNOWN;
+    }
+
+    @Override
+    public void revokeFamily(String familyId, Duration ttl) {
+        redisTemplate.opsForValue().set(REVOKED_FAMILY_PREFIX + familyId, USED, ttl);
+    }
+
+    @Override
+    public boolean isFamilyRevoked(String familyId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_FAMILY_PREFIX + familyId));
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobportal.security;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revoked token IDs in Redis, one expiring key each. Every revocation is also published on a channel
+ * so each node can add it to its own filter without polling.
+ */
+@Component
+@ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+@ConditionalOnProperty(name = "app.auth.revoked-token-store", havingValue = "redis")
+public class RedisRevokedTokenStore implements RevokedTokenStore, InitializingBean, DisposableBean {
+
+    private static final String KEY_PREFIX = "revoked:access:";
+    private static final ChannelTopic CHANNEL = new ChannelTopic("revoked-access-tokens");
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisRevokedTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+        listenerContainer.addMessageListener((Message message, byte[] pattern) -> {
+            String tokenId = redisTemplate.getStringSerializer().deserialize(message.getBody());
+            if (tokenId != null) {
+                listeners.forEach(listener -> listener.accept(tokenId));
+            }
+        }, CHANNEL);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Override
+    public void revoke(String tokenId, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", ttl);
+        redisTemplate.convertAndSend(CHANNEL.getTopic(), tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    @Override
+    public void forEachRevoked(Consumer<String> action) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> action.accept(key.substring(KEY_PREFIX.length())));
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobportal.security;
+
+import java.time.Duration;
+
+/**
+ * Server-side state of issued refresh tokens: whether each has been used, and which rotation families
+ * have been revoked. Every operation is a single key lookup or write.
+ *
+ * Selected with {@code app.auth.refresh-token-store}: {@code memory} (the default, per node) or
+ * {@code redis} (shared between nodes).
+ */
+public interface RefreshTokenStore {
+
+    enum State {
+        /** Issued and not yet used; the caller has now marked it used */
+        UNUSED,
+        /** Used before: presenting it again means it was copied */
+        USED,
+        /** Never issued here, or expired */
+        UNKNOWN
+    }
+
+    /**
+     * Record a newly issued token as unused for {@code ttl}
+     */
+    void add(String tokenId, Duration ttl);
+
+    /**
+     * Atomically mark the token used, returning its state from before the call
+     */
+    State markUsed(String tokenId);
+
+    /**
+     * Revoke every token of the family for {@code ttl}, which should cover the longest-lived of them
+     */
+    void revokeFamily(String familyId, Duration ttl);
+
+    boolean isFamilyRevoked(String familyId);
+}
@@ -0,0 +1,27 @@
+package com.jobportal.security;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Exact record of revoked access token IDs, each kept until the token itself would have expired.
+ *
+ * Selected with {@code app.auth.revoked-token-store}: {@code memory} (the default, per node) or
+ * {@code redis} (shared, with revocations broadcast to every node).
+ */
+public interface RevokedTokenStore {
+
+    void revoke(String tokenId, Duration ttl);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Pass every currently revoked ID to {@code action}, for rebuilding a node's filter
+     */
+    void forEachRevoked(Consumer<String> action);
+
+    /**
+     * Have {@code listener} called with each ID revoked from now on, on any node
+     */
+    void subscribe(Consumer<String> listener);
+}
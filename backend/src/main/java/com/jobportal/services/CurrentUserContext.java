@@ -0,0 +1,111 @@
+package com.jobportal.services;
+
+import java.util.List;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.jobportal.entity.JobSeekerProfile;
+import com.jobportal.entity.RecruiterProfile;
+import com.jobportal.entity.Users;
+import com.jobportal.repository.UsersRepository;
+
+/**
+ * The signed-in user and their job seeker or recruiter profile, resolved with one joined query at
+ * most once per request and kept in a request attribute.
+ *
+ * Outside a request (scheduled or async work) nothing is memoized and each call queries. Services
+ * that create a profile call {@link #forget()} so a later lookup in the same request sees it.
+ */
+@Component
+public class CurrentUserContext {
+
+    private static final String ATTRIBUTE = CurrentUserContext.class.getName();
+
+    private final UsersRepository usersRepository;
+
+    public CurrentUserContext(UsersRepository usersRepository) {
+        this.usersRepository = usersRepository;
+    }
+
+    /**
+     * The current user, or null when the request is anonymous
+     */
+    public CurrentUser get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        String username = authentication.getName();
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return load(username);
+        }
+        // Keyed by name too, so a login partway through a request is not answered with the old user
+        if (attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof CurrentUser current
+                && current.getUsername().equals(username)) {
+            return current;
+        }
+        CurrentUser current = load(username);
+        attributes.setAttribute(ATTRIBUTE, current, RequestAttributes.SCOPE_REQUEST);
+        return current;
+    }
+
+    /**
+     * Drop the memoized user, after a change that the loaded entities would not reflect
+     */
+    public void forget() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private CurrentUser load(String username) {
+        List<Object[]> rows = usersRepository.findWithProfilesByEmail(username);
+        if (rows.isEmpty()) {
+            return new CurrentUser(username, null, null, null);
+        }
+        Object[] row = rows.get(0);
+        return new CurrentUser(username, (Users) row[0], (JobSeekerProfile) row[1], (RecruiterProfile) row[2]);
+    }
+
+    /**
+     * A resolved user; the user is null if the authenticated name has no account, and at most one
+     * of the profiles is set
+     */
+    public static final class CurrentUser {
+        private final String username;
+        private final Users user;
+        private final JobSeekerProfile jobSeekerProfile;
+        private final RecruiterProfile recruiterProfile;
+
+        CurrentUser(String username, Users user, JobSeekerProfile jobSeekerProfile, RecruiterProfile recruiterProfile) {
+            this.username = username;
+            this.user = user;
+            this.jobSeekerProfile = jobSeekerProfile;
+            this.recruiterProfile = recruiterProfile;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public Users getUser() {
+            return user;
+        }
+
+        public JobSeekerProfile getJobSeekerProfile() {
+            return jobSeekerProfile;
+        }
+
+        public RecruiterProfile getRecruiterProfile() {
+            return recruiterProfile;
+        }
+    }
+}
@@ -5,12 +5,13 @@ import com.jobportal.repository.UsersRepository;
 import com.jobportal.util.CustomUserDetails;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UsersRepository usersRepository;
 
@@ -24,4 +25,15 @@ public class CustomUserDetailsService implements UserDetailsService {
         Users user = usersRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException("Could not found user"));
         return new CustomUserDetails(user);
     }
+
+    /**
+     * Store a rehashed password; called by the authentication provider after a successful login when
+     * the stored hash was made with a different BCrypt cost than the one configured
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        Users user = usersRepository.findByEmail(userDetails.getUsername()).orElseThrow(() -> new UsernameNotFoundException("Could not found user"));
+        user.setPassword(newPassword);
+        return new CustomUserDetails(usersRepository.save(user));
+    }
 }
@@ -2,29 +2,73 @@ package com.jobportal.services;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.jobportal.dto.JobResponse;
 import com.jobportal.entity.IRecruiterJobs;
 import com.jobportal.entity.JobCompany;
 import com.jobportal.entity.JobLocation;
 import com.jobportal.entity.JobPostActivity;
 import com.jobportal.entity.RecruiterJobsDto;
 import com.jobportal.repository.JobPostActivityRepository;
+import com.jobportal.search.JobCursor;
+import com.jobportal.search.JobPage;
+import com.jobportal.search.JobSearchIndex;
+import com.jobportal.search.JobSearchPage;
+import com.jobportal.search.JobSearchQuery;
+import com.jobportal.search.JobTitleSuggester;
+import com.jobportal.search.LocationIndex;
+import com.jobportal.search.RankCursor;
+import com.jobportal.search.SearchText;
 
 @Service
 public class JobPostActivityService {
 
+    private static final int ID_BATCH_SIZE = 1000;
+
+    // Rows loaded per round trip when streaming whole listings
+    private static final int STREAM_BATCH_SIZE = 200;
+
+    // Description length in summary listings; full listings use the column's maximum
+    private static final int SUMMARY_DESCRIPTION_LENGTH = 300;
+    private static final int FULL_DESCRIPTION_LENGTH = 10_000;
+
+    // Used by the database fallback when a search does not filter on type/remote
+    private static final List<String> DEFAULT_JOB_TYPES = Arrays.asList("Part-Time", "Full-Time", "Freelance", "InternShip");
+    private static final List<String> DEFAULT_REMOTE_OPTIONS = Arrays.asList("Remote-Only", "Office-Only", "Partial-Remote");
+
     private final JobPostActivityRepository jobPostActivityRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobTitleSuggester jobTitleSuggester;
+    private final LocationIndex locationIndex;
+    private final SitemapService sitemapService;
 
-    public JobPostActivityService(JobPostActivityRepository jobPostActivityRepository) {
+    public JobPostActivityService(JobPostActivityRepository jobPostActivityRepository, JobSearchIndex jobSearchIndex,
+                                  JobTitleSuggester jobTitleSuggester, LocationIndex locationIndex,
+                                  SitemapService sitemapService) {
         this.jobPostActivityRepository = jobPostActivityRepository;
+        this.jobSearchIndex = jobSearchIndex;
+        this.jobTitleSuggester = jobTitleSuggester;
+        this.locationIndex = locationIndex;
+        this.sitemapService = sitemapService;
     }
 
     public JobPostActivity addNew(JobPostActivity jobPostActivity) {
-        return jobPostActivityRepository.save(jobPostActivity);
+        JobPostActivity saved = jobPostActivityRepository.save(jobPostActivity);
+        jobSearchIndex.index(saved);
+        jobTitleSuggester.index(saved);
+        locationIndex.indexJob(saved);
+        sitemapService.jobChanged(saved.getJobPostId());
+        return saved;
     }
 
     public List<RecruiterJobsDto> getRecruiterJobs(int recruiter) {
@@ -51,18 +95,227 @@ public class JobPostActivityService {
         return jobPostActivityRepository.findAll();
     }
 
+    /**
+     * Newest jobs first, one page at a time. Pass the previous page's cursor to continue.
+     * In summary mode the description is cut to {@code SUMMARY_DESCRIPTION_LENGTH} characters by the database.
+     */
+    public JobPage getPage(String cursor, int size, boolean summary) {
+        // Fetch one extra row to find out whether another page follows
+        List<JobResponse> rows = fetchListingsAfter(JobCursor.decode(cursor), size + 1, descriptionLength(summary));
+        long total = jobSearchIndex.isReady() ? jobSearchIndex.size() : jobPostActivityRepository.count();
+        return toPage(rows, size, total);
+    }
+
+    /**
+     * Visit every job, newest first, loading {@code STREAM_BATCH_SIZE} rows at a time so memory
+     * stays flat however many jobs there are
+     */
+    public void forEachJob(boolean summary, Consumer<JobResponse> action) {
+        JobCursor after = null;
+        List<JobResponse> batch;
+        do {
+            batch = fetchListingsAfter(after, STREAM_BATCH_SIZE, descriptionLength(summary));
+            batch.forEach(action);
+            if (!batch.isEmpty()) {
+                JobResponse last = batch.get(batch.size() - 1);
+                after = JobCursor.of(last.getPostedDate(), last.getJobPostId());
+            }
+        } while (batch.size() == STREAM_BATCH_SIZE);
+    }
+
+    /**
+     * Visit every search result, newest first, a batch at a time (see {@link #forEachJob})
+     */
+    public void forEachSearchResult(JobSearchQuery query, boolean summary, Consumer<JobResponse> action) {
+        if (!jobSearchIndex.isReady()) {
+            for (JobPostActivity job : search(query.getKeyword(), query.getLocation(), query.getJobTypes(),
+                    query.getRemoteOptions(), query.getPostedSince())) {
+                action.accept(toListing(job, summary));
+            }
+            return;
+        }
+        List<Integer> ids = jobSearchIndex.search(query);
+        for (int from = 0; from < ids.size(); from += STREAM_BATCH_SIZE) {
+            getListingsByIds(ids.subList(from, Math.min(from + STREAM_BATCH_SIZE, ids.size())), summary).forEach(action);
+        }
+    }
+
+    /**
+     * Visit a recruiter's active jobs in ID order, a batch at a time (see {@link #forEachJob})
+     */
+    public void forEachActiveJobByRecruiter(int recruiterId, boolean summary, Consumer<JobResponse> action) {
+        int afterId = 0;
+        List<JobResponse> batch;
+        do {
+            batch = jobPostActivityRepository.findActiveListingsByRecruiterAfter(recruiterId, afterId,
+                    descriptionLength(summary), PageRequest.of(0, STREAM_BATCH_SIZE));
+            batch.forEach(action);
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getJobPostId();
+            }
+        } while (batch.size() == STREAM_BATCH_SIZE);
+    }
+
+    /**
+     * Up to {@code limit} job listings following the cursor in newest-first order
+     */
+    private List<JobResponse> fetchListingsAfter(JobCursor after, int limit, int descriptionLength) {
+        List<JobResponse> rows;
+        if (after == null) {
+            rows = jobPostActivityRepository.findLatestListings(descriptionLength, PageRequest.of(0, limit));
+        } else if (after.isUndated()) {
+            rows = jobPostActivityRepository.findUndatedListingsBefore(after.getJobPostId(), descriptionLength,
+                    PageRequest.of(0, limit));
+        } else {
+            rows = new ArrayList<>(jobPostActivityRepository.findListingsPostedBefore(after.getPostedDate(),
+                    after.getJobPostId(), descriptionLength, PageRequest.of(0, limit)));
+            if (rows.size() < limit) {
+                // Dated jobs are exhausted, continue with the undated ones
+                rows.addAll(jobPostActivityRepository.findUndatedListingsBefore(Integer.MAX_VALUE, descriptionLength,
+                        PageRequest.of(0, limit - rows.size())));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * One page of search results, newest first. A null type/remote list means no filter on that field.
+     */
+    public JobPage searchPage(JobSearchQuery query, String cursor, int size, boolean summary) {
+        JobCursor after = JobCursor.decode(cursor);
+        if (!jobSearchIndex.isReady()) {
+            List<JobPostActivity> matches = new ArrayList<>(search(query.getKeyword(), query.getLocation(),
+                    query.getJobTypes(), query.getRemoteOptions(), query.getPostedSince()));
+            matches.sort(Comparator.comparing(JobCursor::of, JobCursor.NEWEST_FIRST));
+            List<JobResponse> rows = new ArrayList<>();
+            for (JobPostActivity job : matches) {
+                if (after == null || after.precedes(job)) {
+                    rows.add(toListing(job, summary));
+                    if (rows.size() > size) {
+                        break;
+                    }
+                }
+            }
+            return toPage(rows, size, matches.size());
+        }
+        JobSearchPage page = jobSearchIndex.searchPage(query, after, size);
+        return new JobPage(getListingsByIds(page.getJobPostIds(), summary), page.getNextCursor(),
+                page.getTotal(), page.getFacets());
+    }
+
+    /**
+     * One page of search results ranked by relevance to the keyword. Falls back to newest-first
+     * while the search index is loading, or when there is no keyword to rank by.
+     */
+    public JobPage rankedSearchPage(JobSearchQuery query, String cursor, int size, boolean summary) {
+        if (!jobSearchIndex.isReady() || SearchText.tokens(query.getKeyword()).isEmpty()) {
+            return searchPage(query, cursor, size, summary);
+        }
+        JobSearchPage page = jobSearchIndex.rankPage(query, RankCursor.decode(cursor), size);
+        return new JobPage(getListingsByIds(page.getJobPostIds(), summary), page.getNextCursor(),
+                page.getTotal(), page.getFacets());
+    }
+
+    private static JobPage toPage(List<JobResponse> rows, int size, long total) {
+        if (rows.size() <= size) {
+            return new JobPage(rows, null, total);
+        }
+        List<JobResponse> jobs = new ArrayList<>(rows.subList(0, size));
+        JobResponse last = jobs.get(size - 1);
+        return new JobPage(jobs, JobCursor.of(last.getPostedDate(), last.getJobPostId()).encode(), total);
+    }
+
+    /**
+     * Load job listings by ID, keeping the order of the given list
+     */
+    private List<JobResponse> getListingsByIds(List<Integer> ids, boolean summary) {
+        Map<Integer, JobResponse> byId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            List<Integer> batch = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+            for (JobResponse job : jobPostActivityRepository.findListingsByJobPostIdIn(batch, descriptionLength(summary))) {
+                byId.put(job.getJobPostId(), job);
+            }
+        }
+        List<JobResponse> jobs = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            JobResponse job = byId.get(id);
+            if (job != null) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    // Entity fallback for the database search path, truncated the same way the listing queries do
+    private static JobResponse toListing(JobPostActivity job, boolean summary) {
+        JobResponse listing = JobResponse.of(job);
+        String description = listing.getDescriptionOfJob();
+        if (summary && description != null && description.length() > SUMMARY_DESCRIPTION_LENGTH) {
+            listing.setDescriptionOfJob(description.substring(0, SUMMARY_DESCRIPTION_LENGTH));
+        }
+        return listing;
+    }
+
+    private static int descriptionLength(boolean summary) {
+        return summary ? SUMMARY_DESCRIPTION_LENGTH : FULL_DESCRIPTION_LENGTH;
+    }
+
+    /**
+     * Job titles for the search box typeahead, served from memory
+     */
+    public List<String> suggestTitles(String prefix, int limit) {
+        return jobTitleSuggester.suggest(prefix, limit);
+    }
+
     public List<JobPostActivity> search(String job, String location, List<String> type, List<String> remote, LocalDate searchDate) {
-        return Objects.isNull(searchDate) ? jobPostActivityRepository.searchWithoutDate(job, location, remote,type) :
-                jobPostActivityRepository.search(job, location, remote, type, searchDate);
+        if (!jobSearchIndex.isReady()) {
+            job = job != null ? job : "";
+            location = location != null ? location : "";
+            type = type != null ? type : DEFAULT_JOB_TYPES;
+            remote = remote != null ? remote : DEFAULT_REMOTE_OPTIONS;
+            return Objects.isNull(searchDate) ? jobPostActivityRepository.searchWithoutDate(job, location, remote,type) :
+                    jobPostActivityRepository.search(job, location, remote, type, searchDate);
+        }
+        List<Integer> ids = jobSearchIndex.search(new JobSearchQuery(job, location, type, remote, searchDate));
+        return getAllByIds(ids);
+    }
+
+    /**
+     * Load jobs by ID, keeping the order of the given list
+     */
+    public List<JobPostActivity> getAllByIds(List<Integer> ids) {
+        Map<Integer, JobPostActivity> byId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            List<Integer> batch = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+            for (JobPostActivity job : jobPostActivityRepository.findByJobPostIdIn(batch)) {
+                byId.put(job.getJobPostId(), job);
+            }
+        }
+        List<JobPostActivity> jobs = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            JobPostActivity job = byId.get(id);
+            if (job != null) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
     }
 
     // New method for deleting jobs - Frontend compatibility
     public void deleteJob(JobPostActivity jobPostActivity) {
         jobPostActivityRepository.delete(jobPostActivity);
+        jobSearchIndex.remove(jobPostActivity.getJobPostId());
+        jobTitleSuggester.remove(jobPostActivity.getJobPostId());
+        locationIndex.removeJob(jobPostActivity.getJobPostId());
+        sitemapService.jobChanged(jobPostActivity.getJobPostId());
     }
 
     public void deleteJobById(int id) {
         jobPostActivityRepository.deleteById(id);
+        jobSearchIndex.remove(id);
+        jobTitleSuggester.remove(id);
+        locationIndex.removeJob(id);
+        sitemapService.jobChanged(id);
     }
 
     public List<JobPostActivity> getActiveJobsByRecruiter(int recruiterId) {
@@ -19,10 +19,12 @@ import com.jobportal.repository.JobSeekerApplyRepository;
 public class JobSeekerApplyService {
 
     private final JobSeekerApplyRepository jobSeekerApplyRepository;
+    private final JobStatusCache jobStatusCache;
 
     @Autowired
-    public JobSeekerApplyService(JobSeekerApplyRepository jobSeekerApplyRepository) {
+    public JobSeekerApplyService(JobSeekerApplyRepository jobSeekerApplyRepository, JobStatusCache jobStatusCache) {
         this.jobSeekerApplyRepository = jobSeekerApplyRepository;
+        this.jobStatusCache = jobStatusCache;
     }
 
     // Original methods
@@ -35,7 +37,8 @@ public class JobSeekerApplyService {
     }
 
     public void addNew(JobSeekerApply jobSeekerApply) {
-        jobSeekerApplyRepository.save(jobSeekerApply);
+        JobSeekerApply saved = jobSeekerApplyRepository.save(jobSeekerApply);
+        jobStatusCache.applied(saved.getUserId().getUserAccountId(), saved.getJob().getJobPostId());
     }
 
     // Enhanced methods for complete application management
@@ -59,7 +62,9 @@ public class JobSeekerApplyService {
         application.setStatus(JobSeekerApply.ApplicationStatus.APPLIED);
         application.setLastUpdated(new Date());
 
-        return jobSeekerApplyRepository.save(application);
+        JobSeekerApply saved = jobSeekerApplyRepository.save(application);
+        jobStatusCache.applied(jobSeeker.getUserAccountId(), job.getJobPostId());
+        return saved;
     }
 
     /**
@@ -233,14 +238,21 @@ public class JobSeekerApplyService {
         application.setStatus(JobSeekerApply.ApplicationStatus.WITHDRAWN);
         application.setLastUpdated(new Date());
 
-        return jobSeekerApplyRepository.save(application);
+        // A withdrawn application keeps its row, and the (userId, job) unique constraint still blocks
+        // re-applying, so the job stays in the seeker's applied set
+        JobSeekerApply saved = jobSeekerApplyRepository.save(application);
+        jobStatusCache.applied(jobSeeker.getUserAccountId(), application.getJob().getJobPostId());
+        return saved;
     }
 
     /**
      * Delete application (admin only)
      */
     public void deleteApplication(Integer applicationId) {
-        jobSeekerApplyRepository.deleteById(applicationId);
+        jobSeekerApplyRepository.findById(applicationId).ifPresent(application -> {
+            jobSeekerApplyRepository.delete(application);
+            jobStatusCache.unapplied(application.getUserId().getUserAccountId(), application.getJob().getJobPostId());
+        });
     }
 
     /**
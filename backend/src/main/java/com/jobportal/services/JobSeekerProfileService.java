@@ -4,9 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,10 +20,13 @@ public class JobSeekerProfileService {
 
     private final JobSeekerProfileRepository jobSeekerProfileRepository;
     private final UsersRepository usersRepository;
+    private final CurrentUserContext currentUserContext;
 
-    public JobSeekerProfileService(JobSeekerProfileRepository jobSeekerProfileRepository, UsersRepository usersRepository) {
+    public JobSeekerProfileService(JobSeekerProfileRepository jobSeekerProfileRepository, UsersRepository usersRepository,
+                                   CurrentUserContext currentUserContext) {
         this.jobSeekerProfileRepository = jobSeekerProfileRepository;
         this.usersRepository = usersRepository;
+        this.currentUserContext = currentUserContext;
     }
 
     public Optional<JobSeekerProfile> getOne(Integer id) {
@@ -49,7 +49,9 @@ public class JobSeekerProfileService {
         }
         
         System.out.println("Saving new profile for user: " + userAccountId);
-        return jobSeekerProfileRepository.saveAndFlush(jobSeekerProfile);
+        JobSeekerProfile created = jobSeekerProfileRepository.saveAndFlush(jobSeekerProfile);
+        currentUserContext.forget();
+        return created;
     }
 
     /**
@@ -96,7 +98,10 @@ public class JobSeekerProfileService {
             }
         }
         
-        return jobSeekerProfileRepository.saveAndFlush(existingProfile);
+        JobSeekerProfile saved = jobSeekerProfileRepository.saveAndFlush(existingProfile);
+        // The profile may have been created here
+        currentUserContext.forget();
+        return saved;
     }
 
     /**
@@ -164,12 +169,10 @@ public class JobSeekerProfileService {
     }
 
     public JobSeekerProfile getCurrentSeekerProfile() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (!(authentication instanceof AnonymousAuthenticationToken)) {
-            String currentUsername = authentication.getName();
-            Users users = usersRepository.findByEmail(currentUsername).orElseThrow(() -> new UsernameNotFoundException("User not found"));
-            Optional<JobSeekerProfile> seekerProfile = getOne(users.getUserId());
-            return seekerProfile.orElse(null);
+        CurrentUserContext.CurrentUser current = currentUserContext.get();
+        if (current != null) {
+            if (current.getUser() == null) throw new UsernameNotFoundException("User not found");
+            return current.getJobSeekerProfile();
         } else return null;
     }
 }
@@ -1,40 +1,96 @@
 package com.jobportal.services;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import com.jobportal.dto.SavedJobResponse;
 import com.jobportal.entity.JobPostActivity;
 import com.jobportal.entity.JobSeekerProfile;
 import com.jobportal.entity.JobSeekerSave;
 import com.jobportal.repository.JobSeekerSaveRepository;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class JobSeekerSaveService {
 
+    // Sortable columns of the saved jobs list, by request name; anything else sorts by save order
+    private static final Map<String, String> SAVED_JOB_SORTS = Map.of(
+            "savedAt", "id",
+            "postedDate", "job.postedDate",
+            "jobTitle", "job.jobTitle",
+            "jobType", "job.jobType",
+            "salary", "job.salary");
+
     private final JobSeekerSaveRepository jobSeekerSaveRepository;
+    private final JobStatusCache jobStatusCache;
 
-    public JobSeekerSaveService(JobSeekerSaveRepository jobSeekerSaveRepository) {
+    public JobSeekerSaveService(JobSeekerSaveRepository jobSeekerSaveRepository, JobStatusCache jobStatusCache) {
         this.jobSeekerSaveRepository = jobSeekerSaveRepository;
+        this.jobStatusCache = jobStatusCache;
     }
 
     public List<JobSeekerSave> getCandidatesJob(JobSeekerProfile userAccountId) {
         return jobSeekerSaveRepository.findByUserId(userAccountId);
     }
 
+    /**
+     * One page (1-based) of the seeker's saved jobs. Blank filters are ignored; {@code remote} is
+     * "true" for remote or partially remote jobs and anything else for office jobs, and
+     * {@code applied} is "true"/"false" to keep only jobs the seeker has or hasn't applied to.
+     */
+    public Page<SavedJobResponse> getSavedJobs(JobSeekerProfile seeker, String search, String type, String remote,
+                                               String applied, String sortBy, String sortOrder, int page, int limit) {
+        String pattern = StringUtils.hasText(search) ? "%" + escapeLike(search.trim().toLowerCase()) + "%" : null;
+        String jobType = StringUtils.hasText(type) ? type.trim() : null;
+        boolean anyRemote = !StringUtils.hasText(remote);
+        List<String> remoteValues = anyRemote ? List.of("")
+                : "true".equals(remote) ? List.of("Remote-Only", "Partial-Remote") : List.of("Office-Only");
+        int appliedFilter = "true".equals(applied) ? 1 : "false".equals(applied) ? 2 : 0;
+
+        Sort.Direction direction = "asc".equalsIgnoreCase(sortOrder) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        String property = SAVED_JOB_SORTS.getOrDefault(sortBy, "id");
+        Sort sort = Sort.by(direction, property);
+        if (!"id".equals(property)) {
+            // Tie-break on save order so pages don't overlap
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+        Pageable pageable = PageRequest.of(Math.max(page, 1) - 1, limit, sort);
+        return jobSeekerSaveRepository.findSavedJobs(seeker.getUserAccountId(), pattern, jobType, anyRemote,
+                remoteValues, appliedFilter, pageable);
+    }
+
+    // Typed % and _ are matched literally; '!' rather than '\' as the escape character, since MySQL
+    // would also read a backslash in the ESCAPE literal as a string escape
+    private static String escapeLike(String text) {
+        return text.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    public long countSavedJobs(JobSeekerProfile seeker) {
+        return jobSeekerSaveRepository.countByUserId(seeker);
+    }
+
     public List<JobSeekerSave> getJobCandidates(JobPostActivity job) {
         return jobSeekerSaveRepository.findByJob(job);
     }
 
     public void addNew(JobSeekerSave jobSeekerSave) {
-        jobSeekerSaveRepository.save(jobSeekerSave);
+        JobSeekerSave saved = jobSeekerSaveRepository.save(jobSeekerSave);
+        jobStatusCache.saved(saved.getUserId().getUserAccountId(), saved.getJob().getJobPostId());
     }
 
     public void delete(JobSeekerSave jobSeekerSave) {
         jobSeekerSaveRepository.delete(jobSeekerSave);
+        jobStatusCache.unsaved(jobSeekerSave.getUserId().getUserAccountId(), jobSeekerSave.getJob().getJobPostId());
     }
 
     public void deleteById(Integer id) {
-        jobSeekerSaveRepository.deleteById(id);
+        // Load first so the cached saved set can be updated for the owning seeker
+        jobSeekerSaveRepository.findById(id).ifPresent(this::delete);
     }
 }
@@ -0,0 +1,149 @@
+package com.jobportal.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntFunction;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.jobportal.repository.JobSeekerApplyRepository;
+import com.jobportal.repository.JobSeekerSaveRepository;
+import com.jobportal.util.IntHashSet;
+
+/**
+ * Per-seeker sets of the job IDs they have applied to and saved, so applied/saved checks are a
+ * hash lookup instead of a query.
+ *
+ * A seeker's sets are loaded with two ID-only queries the first time they are needed, then kept
+ * current by {@link JobSeekerApplyService} and {@link JobSeekerSaveService}. Sets are never
+ * modified once published: a change swaps in an updated copy, so readers need no locking.
+ * Entries expire a fixed time after they were loaded, however often they are read or updated since,
+ * so a change made outside those services (SQL scripts, admin fixes) is picked up within that time.
+ *
+ * Loads run outside the cache's per-key lock, which is a monitor: holding it across a query would pin
+ * a virtual thread to its carrier for the whole round trip. A load that overlaps a change to the same
+ * seeker is returned but not stored; changes to other seekers do not hold it back.
+ */
+@Component
+public class JobStatusCache {
+
+    private static final int MAX_SEEKERS = 50_000;
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+    // Power of two; seekers sharing a stripe only cost each other the occasional unstored load
+    private static final int STAMP_STRIPES = 4096;
+
+    // Counted from the load: reads and in-place updates keep the remaining time
+    private static final Expiry<Integer, IntHashSet> FIXED_AGE = new Expiry<>() {
+        @Override
+        public long expireAfterCreate(Integer seekerId, IntHashSet jobPostIds, long currentTime) {
+            return MAX_AGE.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer seekerId, IntHashSet jobPostIds, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Integer seekerId, IntHashSet jobPostIds, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    };
+
+    private final JobSeekerApplyRepository jobSeekerApplyRepository;
+    private final JobSeekerSaveRepository jobSeekerSaveRepository;
+
+    private final Cache<Integer, IntHashSet> applied = Caffeine.newBuilder()
+            .maximumSize(MAX_SEEKERS)
+            .expireAfter(FIXED_AGE)
+            .build();
+
+    private final Cache<Integer, IntHashSet> saved = Caffeine.newBuilder()
+            .maximumSize(MAX_SEEKERS)
+            .expireAfter(FIXED_AGE)
+            .build();
+
+    // Per-seeker (striped) change counters, bumped on every change; a set loaded across a bump of its
+    // seeker's stamp may be stale and is not stored
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public JobStatusCache(JobSeekerApplyRepository jobSeekerApplyRepository,
+                          JobSeekerSaveRepository jobSeekerSaveRepository) {
+        this.jobSeekerApplyRepository = jobSeekerApplyRepository;
+        this.jobSeekerSaveRepository = jobSeekerSaveRepository;
+    }
+
+    /**
+     * Job IDs the seeker has applied to; the returned set must not be modified
+     */
+    public IntHashSet getAppliedJobIds(int seekerId) {
+        return load(applied, seekerId, jobSeekerApplyRepository::findAppliedJobIds);
+    }
+
+    /**
+     * Job IDs the seeker has saved; the returned set must not be modified
+     */
+    public IntHashSet getSavedJobIds(int seekerId) {
+        return load(saved, seekerId, jobSeekerSaveRepository::findSavedJobIds);
+    }
+
+    void applied(int seekerId, int jobPostId) {
+        update(applied, seekerId, jobPostId, true);
+    }
+
+    void unapplied(int seekerId, int jobPostId) {
+        update(applied, seekerId, jobPostId, false);
+    }
+
+    void saved(int seekerId, int jobPostId) {
+        update(saved, seekerId, jobPostId, true);
+    }
+
+    void unsaved(int seekerId, int jobPostId) {
+        update(saved, seekerId, jobPostId, false);
+    }
+
+    private IntHashSet load(Cache<Integer, IntHashSet> cache, int seekerId, IntFunction<List<Integer>> query) {
+        IntHashSet cached = cache.getIfPresent(seekerId);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(seekerId);
+        long before = stamps.get(stripe);
+        IntHashSet loaded = IntHashSet.of(query.apply(seekerId));
+        if (stamps.get(stripe) == before) {
+            cache.asMap().putIfAbsent(seekerId, loaded);
+            if (stamps.get(stripe) != before) {
+                // Lost a race with a change; drop rather than risk keeping the pre-change set
+                cache.invalidate(seekerId);
+            }
+        }
+        return loaded;
+    }
+
+    // Only touches loaded entries; a seeker loaded later reads the change from the database, and a
+    // load in flight for that seeker sees the bumped stamp and does not store its result
+    private void update(Cache<Integer, IntHashSet> cache, int seekerId, int jobPostId, boolean add) {
+        stamps.incrementAndGet(stripe(seekerId));
+        cache.asMap().computeIfPresent(seekerId, (id, jobPostIds) -> {
+            if (jobPostIds.contains(jobPostId) == add) {
+                return jobPostIds;
+            }
+            IntHashSet updated = jobPostIds.copy();
+            if (add) {
+                updated.add(jobPostId);
+            } else {
+                updated.remove(jobPostId);
+            }
+            return updated;
+        });
+    }
+
+    private static int stripe(int seekerId) {
+        return seekerId & (STAMP_STRIPES - 1);
+    }
+}
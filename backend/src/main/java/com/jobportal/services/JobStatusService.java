@@ -0,0 +1,109 @@
+package com.jobportal.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.jobportal.dto.JobResponse;
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.entity.JobSeekerProfile;
+import com.jobportal.util.IntHashSet;
+
+/**
+ * Answers "has this seeker applied to / saved these jobs" from the seeker's cached job ID sets
+ * (see {@link JobStatusCache}), so each check is a hash lookup rather than a query.
+ */
+@Service
+public class JobStatusService {
+
+    public static final String APPLIED = "alreadyApplied";
+    public static final String SAVED = "alreadySaved";
+
+    private final JobStatusCache jobStatusCache;
+
+    public JobStatusService(JobStatusCache jobStatusCache) {
+        this.jobStatusCache = jobStatusCache;
+    }
+
+    public boolean hasApplied(JobSeekerProfile seeker, int jobPostId) {
+        return jobStatusCache.getAppliedJobIds(seeker.getUserAccountId()).contains(jobPostId);
+    }
+
+    public boolean hasSaved(JobSeekerProfile seeker, int jobPostId) {
+        return jobStatusCache.getSavedJobIds(seeker.getUserAccountId()).contains(jobPostId);
+    }
+
+    /**
+     * The subset of {@code jobPostIds} the seeker has applied to
+     */
+    public Set<Integer> getAppliedJobIds(JobSeekerProfile seeker, Collection<Integer> jobPostIds) {
+        return retain(jobStatusCache.getAppliedJobIds(seeker.getUserAccountId()), jobPostIds);
+    }
+
+    /**
+     * The subset of {@code jobPostIds} the seeker has saved
+     */
+    public Set<Integer> getSavedJobIds(JobSeekerProfile seeker, Collection<Integer> jobPostIds) {
+        return retain(jobStatusCache.getSavedJobIds(seeker.getUserAccountId()), jobPostIds);
+    }
+
+    /**
+     * Applied/saved flags for every given job, in request order, keyed like the single-job status endpoint
+     */
+    public Map<Integer, Map<String, Boolean>> getStatuses(JobSeekerProfile seeker, Collection<Integer> jobPostIds) {
+        IntHashSet applied = jobStatusCache.getAppliedJobIds(seeker.getUserAccountId());
+        IntHashSet saved = jobStatusCache.getSavedJobIds(seeker.getUserAccountId());
+        Map<Integer, Map<String, Boolean>> statuses = new LinkedHashMap<>();
+        for (Integer jobPostId : jobPostIds) {
+            statuses.put(jobPostId, Map.of(APPLIED, applied.contains(jobPostId), SAVED, saved.contains(jobPostId)));
+        }
+        return statuses;
+    }
+
+    /**
+     * Set the applied ({@code isActive}, as the dashboard template reads it) and saved flags on a page
+     * of jobs. The seeker's ID sets are fetched once, so this is linear in the page size and issues
+     * no queries once they are cached.
+     */
+    public void annotate(JobSeekerProfile seeker, List<JobPostActivity> jobs) {
+        IntHashSet applied = jobStatusCache.getAppliedJobIds(seeker.getUserAccountId());
+        IntHashSet saved = jobStatusCache.getSavedJobIds(seeker.getUserAccountId());
+        for (JobPostActivity job : jobs) {
+            job.setIsActive(applied.contains(job.getJobPostId()));
+            job.setIsSaved(saved.contains(job.getJobPostId()));
+        }
+    }
+
+    /**
+     * Copies of the given job responses with {@code applied}/{@code saved} filled in; the originals
+     * may be shared between users and are left untouched
+     */
+    public List<JobResponse> annotateResponses(JobSeekerProfile seeker, List<JobResponse> jobs) {
+        IntHashSet applied = jobStatusCache.getAppliedJobIds(seeker.getUserAccountId());
+        IntHashSet saved = jobStatusCache.getSavedJobIds(seeker.getUserAccountId());
+        List<JobResponse> annotated = new ArrayList<>(jobs.size());
+        for (JobResponse job : jobs) {
+            JobResponse copy = job.copy();
+            copy.setApplied(applied.contains(job.getJobPostId()));
+            copy.setSaved(saved.contains(job.getJobPostId()));
+            annotated.add(copy);
+        }
+        return annotated;
+    }
+
+    private static Set<Integer> retain(IntHashSet members, Collection<Integer> jobPostIds) {
+        Set<Integer> result = new HashSet<>();
+        for (Integer jobPostId : jobPostIds) {
+            if (jobPostId != null && members.contains(jobPostId)) {
+                result.add(jobPostId);
+            }
+        }
+        return result;
+    }
+}
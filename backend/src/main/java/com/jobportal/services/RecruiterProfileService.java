@@ -1,14 +1,9 @@
 package com.jobportal.services;
 
 import com.jobportal.entity.RecruiterProfile;
-import com.jobportal.entity.Users;
 import com.jobportal.repository.RecruiterProfileRepository;
-import com.jobportal.repository.UsersRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
@@ -18,12 +13,12 @@ import java.util.Optional;
 public class RecruiterProfileService {
 
     private final RecruiterProfileRepository recruiterRepository;
-    private final UsersRepository usersRepository;
+    private final CurrentUserContext currentUserContext;
 
     @Autowired
-    public RecruiterProfileService(RecruiterProfileRepository recruiterRepository, UsersRepository usersRepository) {
+    public RecruiterProfileService(RecruiterProfileRepository recruiterRepository, CurrentUserContext currentUserContext) {
         this.recruiterRepository = recruiterRepository;
-        this.usersRepository = usersRepository;
+        this.currentUserContext = currentUserContext;
     }
 
     public Optional<RecruiterProfile> getOne(Integer id) {
@@ -70,7 +65,9 @@ public class RecruiterProfileService {
             return recruiterRepository.save(profileToUpdate);
         } else {
             // Create new profile
-            return recruiterRepository.save(recruiterProfile);
+            RecruiterProfile created = recruiterRepository.save(recruiterProfile);
+            currentUserContext.forget();
+            return created;
         }
     }
 
@@ -82,12 +79,10 @@ public class RecruiterProfileService {
     }
 
     public RecruiterProfile getCurrentRecruiterProfile() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (!(authentication instanceof AnonymousAuthenticationToken)) {
-            String currentUsername = authentication.getName();
-            Users users = usersRepository.findByEmail(currentUsername).orElseThrow(() -> new UsernameNotFoundException("User not found"));
-            Optional<RecruiterProfile> recruiterProfile = getOne(users.getUserId());
-            return recruiterProfile.orElse(null);
+        CurrentUserContext.CurrentUser current = currentUserContext.get();
+        if (current != null) {
+            if (current.getUser() == null) throw new UsernameNotFoundException("User not found");
+            return current.getRecruiterProfile();
         } else return null;
     }
 }
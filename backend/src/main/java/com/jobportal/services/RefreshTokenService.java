@@ -0,0 +1,148 @@
+package com.jobportal.services;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.jobportal.config.JwtTokenProvider;
+import com.jobportal.entity.Users;
+import com.jobportal.security.RefreshTokenStore;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Issues and rotates refresh tokens, so an expired access token is renewed with a signature check
+ * and a couple of key lookups instead of another password hash.
+ *
+ * Each login starts a family; every refresh marks the presented token used and issues the next one in
+ * the same family. A token presented a second time was copied, so its whole family is revoked and
+ * the user's token version bumped, which also ends any access token minted from it.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenVersionService tokenVersionService;
+
+    public RefreshTokenService(JwtTokenProvider tokenProvider, RefreshTokenStore refreshTokenStore,
+                               TokenVersionService tokenVersionService) {
+        this.tokenProvider = tokenProvider;
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenVersionService = tokenVersionService;
+    }
+
+    /**
+     * The first refresh token of a new family, issued at login or registration
+     */
+    public String issue(Users user) {
+        return issue(user.getEmail(), user.getUserTypeId().getUserTypeName(), user.getUserId(),
+                user.getTokenVersion(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and the next refresh token, or null if it is
+     * invalid, expired, revoked or already used
+     */
+    public Tokens refresh(String refreshToken) {
+        Claims claims = tokenProvider.verifyRefreshToken(refreshToken);
+        if (claims == null) {
+            return null;
+        }
+        String username = claims.getSubject();
+        String familyId = claims.get(JwtTokenProvider.FAMILY_ID, String.class);
+        String userType = claims.get(JwtTokenProvider.USER_TYPE, String.class);
+        Number userId = claims.get(JwtTokenProvider.USER_ID, Number.class);
+        Number tokenVersion = claims.get(JwtTokenProvider.TOKEN_VERSION, Number.class);
+        if (claims.getId() == null || familyId == null || userId == null || tokenVersion == null) {
+            return null;
+        }
+        if (refreshTokenStore.isFamilyRevoked(familyId)
+                || !tokenVersionService.isCurrent(userId.intValue(), tokenVersion.intValue())) {
+            return null;
+        }
+
+        switch (refreshTokenStore.markUsed(claims.getId())) {
+            case UNUSED:
+                break;
+            case USED:
+                logger.warn("Refresh token reused for user {}; revoking its family and all tokens", username);
+                refreshTokenStore.revokeFamily(familyId, refreshTtl());
+                tokenVersionService.revokeAll(userId.intValue());
+                return null;
+            default:
+                return null;
+        }
+
+        String accessToken = tokenProvider.generateToken(username, userType, userId.longValue(), tokenVersion.intValue());
+        String nextRefreshToken = issue(username, userType, userId.intValue(), tokenVersion.intValue(), familyId);
+        return new Tokens(accessToken, nextRefreshToken, userId.longValue(), username, userType);
+    }
+
+    /**
+     * Revoke the family of a refresh token, at logout; invalid tokens are ignored
+     */
+    public void revoke(String refreshToken) {
+        Claims claims = tokenProvider.verifyRefreshToken(refreshToken);
+        String familyId = claims != null ? claims.get(JwtTokenProvider.FAMILY_ID, String.class) : null;
+        if (familyId != null) {
+            refreshTokenStore.revokeFamily(familyId, refreshTtl());
+        }
+    }
+
+    private String issue(String username, String userType, int userId, int tokenVersion, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        String token = tokenProvider.generateRefreshToken(username, userType, (long) userId, tokenVersion,
+                tokenId, familyId);
+        refreshTokenStore.add(tokenId, refreshTtl());
+        return token;
+    }
+
+    private Duration refreshTtl() {
+        return Duration.ofMillis(tokenProvider.getRefreshExpirationTime());
+    }
+
+    /**
+     * Result of a refresh: the new token pair and who it is for
+     */
+    public static final class Tokens {
+        private final String accessToken;
+        private final String refreshToken;
+        private final Long userId;
+        private final String email;
+        private final String userType;
+
+        Tokens(String accessToken, String refreshToken, Long userId, String email, String userType) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+            this.userId = userId;
+            this.email = email;
+            this.userType = userType;
+        }
+
+        public String getAccessToken() {
+            return accessToken;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getUserType() {
+            return userType;
+        }
+    }
+}
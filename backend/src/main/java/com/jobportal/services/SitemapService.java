@@ -0,0 +1,264 @@
+package com.jobportal.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+
+import com.jobportal.repository.JobCompanyRepository;
+import com.jobportal.repository.JobPostActivityRepository;
+
+/**
+ * Builds and caches the sitemap: an index ({@code sitemap.xml}) pointing at a sitemap of static pages
+ * and numbered job and company sitemaps.
+ *
+ * Job and company sitemaps each cover a fixed range of {@code URLS_PER_SITEMAP} IDs, so none can pass
+ * the protocol's 50,000 URL limit and a change to one job or company only invalidates the sitemap its
+ * ID falls in (plus the index). Documents are rendered on first request from ID-only queries and kept
+ * as plain and gzipped bytes with an ETag until invalidated.
+ */
+@Service
+public class SitemapService {
+
+    public static final String INDEX = "sitemap";
+    public static final String PAGES = "sitemap-pages";
+
+    // Protocol limit on URLs per sitemap; also the width of each ID range
+    private static final int URLS_PER_SITEMAP = 50_000;
+
+    private static final String BASE_URL = "https://www.zplusejobs.com";
+    private static final String[] STATIC_ROUTES = {"", "/jobs", "/login", "/register"};
+
+    private final JobPostActivityRepository jobPostActivityRepository;
+    private final JobCompanyRepository jobCompanyRepository;
+
+    private final Map<String, Document> documents = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation; a document rendered across a bump may be stale and is not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public SitemapService(JobPostActivityRepository jobPostActivityRepository,
+                          JobCompanyRepository jobCompanyRepository) {
+        this.jobPostActivityRepository = jobPostActivityRepository;
+        this.jobCompanyRepository = jobCompanyRepository;
+    }
+
+    public static String jobsName(int number) {
+        return "sitemap-jobs-" + number;
+    }
+
+    public static String companiesName(int number) {
+        return "sitemap-companies-" + number;
+    }
+
+    public Document getIndex() {
+        return get(INDEX, this::renderIndex);
+    }
+
+    public Document getPages() {
+        return get(PAGES, this::renderPages);
+    }
+
+    /**
+     * The numbered (from 1) job sitemap, if it is within the current ID range
+     */
+    public Optional<Document> getJobs(int number) {
+        return Optional.ofNullable(get(jobsName(number), () -> renderJobs(number)));
+    }
+
+    /**
+     * The numbered (from 1) company sitemap, if it is within the current ID range
+     */
+    public Optional<Document> getCompanies(int number) {
+        return Optional.ofNullable(get(companiesName(number), () -> renderCompanies(number)));
+    }
+
+    /**
+     * Drop the job sitemap holding this job, after it has been created, changed or deleted
+     */
+    public void jobChanged(int jobPostId) {
+        invalidate(jobsName(chunkOf(jobPostId)));
+    }
+
+    /**
+     * Drop the company sitemap holding this company, after it has been created, changed or deleted
+     */
+    public void companyChanged(int companyId) {
+        invalidate(companiesName(chunkOf(companyId)));
+    }
+
+    private void invalidate(String name) {
+        generation.incrementAndGet();
+        documents.remove(name);
+        // A new ID can open a new chunk, which the index must list
+        documents.remove(INDEX);
+    }
+
+    // Cached document, or render and store it; null when the renderer has nothing to render
+    private Document get(String name, Supplier<String> renderer) {
+        Document cached = documents.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        long before = generation.get();
+        String content = renderer.get();
+        if (content == null) {
+            return null;
+        }
+        Document document = Document.of(content);
+        if (generation.get() == before) {
+            documents.put(name, document);
+            if (generation.get() != before) {
+                // Lost a race with a change; drop rather than risk serving the stale document
+                documents.remove(name, document);
+            }
+        }
+        return document;
+    }
+
+    private String renderIndex() {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+        appendSitemap(xml, PAGES);
+        int jobChunks = chunkCount(jobPostActivityRepository.findMaxJobPostId());
+        for (int number = 1; number <= jobChunks; number++) {
+            appendSitemap(xml, jobsName(number));
+        }
+        int companyChunks = chunkCount(jobCompanyRepository.findMaxId());
+        for (int number = 1; number <= companyChunks; number++) {
+            appendSitemap(xml, companiesName(number));
+        }
+        xml.append("</sitemapindex>");
+        return xml.toString();
+    }
+
+    private static void appendSitemap(StringBuilder xml, String name) {
+        xml.append("  <sitemap>\n");
+        xml.append("    <loc>").append(BASE_URL).append('/').append(name).append(".xml</loc>\n");
+        xml.append("  </sitemap>\n");
+    }
+
+    private String renderPages() {
+        StringBuilder xml = startUrlSet();
+        for (String route : STATIC_ROUTES) {
+            appendUrl(xml, BASE_URL + route, "daily", "1.0");
+        }
+        return xml.append("</urlset>").toString();
+    }
+
+    private String renderJobs(int number) {
+        if (number < 1 || number > chunkCount(jobPostActivityRepository.findMaxJobPostId())) {
+            return null;
+        }
+        List<Integer> ids = jobPostActivityRepository.findIdsInRange(firstId(number), firstId(number + 1));
+        return renderUrls(ids, id -> BASE_URL + "/jobs/" + id, "0.8");
+    }
+
+    private String renderCompanies(int number) {
+        if (number < 1 || number > chunkCount(jobCompanyRepository.findMaxId())) {
+            return null;
+        }
+        List<Integer> ids = jobCompanyRepository.findIdsInRange(firstId(number), firstId(number + 1));
+        return renderUrls(ids, id -> BASE_URL + "/companies/" + id, "0.7");
+    }
+
+    private static String renderUrls(List<Integer> ids, IntFunction<String> location, String priority) {
+        StringBuilder xml = startUrlSet();
+        for (Integer id : ids) {
+            appendUrl(xml, location.apply(id), "weekly", priority);
+        }
+        return xml.append("</urlset>").toString();
+    }
+
+    private static StringBuilder startUrlSet() {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+        return xml;
+    }
+
+    private static void appendUrl(StringBuilder xml, String location, String changeFrequency, String priority) {
+        xml.append("  <url>\n");
+        xml.append("    <loc>").append(location).append("</loc>\n");
+        xml.append("    <changefreq>").append(changeFrequency).append("</changefreq>\n");
+        xml.append("    <priority>").append(priority).append("</priority>\n");
+        xml.append("  </url>\n");
+    }
+
+    // Chunk n (from 1) holds IDs [(n - 1) * URLS_PER_SITEMAP, n * URLS_PER_SITEMAP)
+    private static int chunkOf(int id) {
+        return id / URLS_PER_SITEMAP + 1;
+    }
+
+    private static int firstId(int number) {
+        return (number - 1) * URLS_PER_SITEMAP;
+    }
+
+    private static int chunkCount(Integer maxId) {
+        return maxId == null ? 0 : chunkOf(maxId);
+    }
+
+    /**
+     * A rendered sitemap: UTF-8 and gzipped bytes, a content hash for the ETag and the render time
+     */
+    public static final class Document {
+        private final byte[] xml;
+        private final byte[] gzipped;
+        private final String etag;
+        private final long lastModified;
+
+        private Document(byte[] xml, byte[] gzipped, String etag, long lastModified) {
+            this.xml = xml;
+            this.gzipped = gzipped;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        static Document of(String content) {
+            byte[] xml = content.getBytes(StandardCharsets.UTF_8);
+            try {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(xml.length / 4 + 64);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                    gzip.write(xml);
+                }
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(xml);
+                return new Document(xml, buffer.toByteArray(), HexFormat.of().formatHex(hash, 0, 16),
+                        System.currentTimeMillis());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public byte[] getXml() {
+            return xml;
+        }
+
+        public byte[] getGzipped() {
+            return gzipped;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+    }
+}
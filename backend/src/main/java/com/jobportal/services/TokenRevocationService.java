@@ -0,0 +1,125 @@
+package com.jobportal.services;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.jobportal.config.JwtTokenProvider;
+import com.jobportal.security.RevokedTokenStore;
+import com.jobportal.util.BloomFilter;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Denylist of revoked access tokens, checked on every authenticated request.
+ *
+ * Each node keeps a Bloom filter of revoked token IDs in front of the exact {@link RevokedTokenStore},
+ * so the usual answer ("not revoked") costs a few bit lookups and no allocation or I/O; the store is
+ * only asked on a filter hit. Revocations from other nodes reach the filter through the store's
+ * broadcast. Since a Bloom filter cannot forget, it is rebuilt from the store every
+ * {@code REBUILD_INTERVAL}, which drops tokens that have since expired.
+ */
+@Service
+public class TokenRevocationService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.0001;
+    private static final Duration REBUILD_INTERVAL = Duration.ofMinutes(15);
+
+    private final RevokedTokenStore revokedTokenStore;
+    private final int expectedRevocations;
+
+    private volatile BloomFilter filter;
+    // Set while a rebuild is filling a new filter, so revocations arriving meanwhile reach it as well
+    private volatile BloomFilter rebuilding;
+    // Held by adds and by the start and swap of a rebuild, so no revocation lands only in a filter
+    // that is about to be replaced; checks never take it
+    private final Object filterLock = new Object();
+
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "revoked-token-filter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TokenRevocationService(RevokedTokenStore revokedTokenStore,
+                                  @Value("${app.auth.expected-revocations:100000}") int expectedRevocations) {
+        this.revokedTokenStore = revokedTokenStore;
+        this.expectedRevocations = expectedRevocations;
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+        revokedTokenStore.subscribe(this::addToFilter);
+    }
+
+    @PostConstruct
+    void start() {
+        // The first run also loads revocations made before this node started
+        rebuilder.scheduleWithFixedDelay(this::rebuildFilter, 0, REBUILD_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Revoke a verified access token until it expires; tokens without an ID cannot be revoked
+     */
+    public void revoke(Claims claims) {
+        String tokenId = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (tokenId == null || expiration == null) {
+            return;
+        }
+        long remainingMs = expiration.getTime() - System.currentTimeMillis();
+        if (remainingMs > 0) {
+            revokedTokenStore.revoke(tokenId, Duration.ofMillis(remainingMs));
+            addToFilter(tokenId);
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return filter.mightContain(tokenId) && revokedTokenStore.isRevoked(tokenId);
+    }
+
+    private void addToFilter(String tokenId) {
+        synchronized (filterLock) {
+            filter.add(tokenId);
+            BloomFilter next = rebuilding;
+            if (next != null) {
+                next.add(tokenId);
+            }
+        }
+    }
+
+    void rebuildFilter() {
+        BloomFilter next = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+        synchronized (filterLock) {
+            rebuilding = next;
+        }
+        try {
+            // A revocation added before this point is already in the store; one added after also goes to next
+            revokedTokenStore.forEachRevoked(next::add);
+            synchronized (filterLock) {
+                filter = next;
+                rebuilding = null;
+            }
+        } catch (RuntimeException e) {
+            // Keep the current filter; it still holds every revocation, only some expired ones too
+            logger.warn("Could not rebuild the revoked token filter: {}", e.getMessage());
+            synchronized (filterLock) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        rebuilder.shutdownNow();
+    }
+}
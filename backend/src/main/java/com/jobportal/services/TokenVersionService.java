@@ -0,0 +1,81 @@
+package com.jobportal.services;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.repository.UsersRepository;
+
+/**
+ * Current token version of each user, checked against the version claim of every JWT.
+ *
+ * Tokens carry the user's {@code token_version} from when they were issued; bumping it (on a role
+ * change, a password change or a forced logout) makes all of them stale at once. Versions are cached
+ * for a short time, so a bump made on this node takes effect immediately and one made on another node
+ * within {@code STALENESS}. Versions are loaded outside the cache's per-key lock so a query never
+ * pins a virtual thread.
+ */
+@Service
+public class TokenVersionService {
+
+    // A user with no row has no valid tokens
+    private static final int MISSING = -1;
+
+    private static final int MAX_USERS = 100_000;
+    private static final Duration STALENESS = Duration.ofMinutes(1);
+
+    private final UsersRepository usersRepository;
+
+    private final Cache<Integer, Integer> versions = Caffeine.newBuilder()
+            .maximumSize(MAX_USERS)
+            .expireAfterWrite(STALENESS)
+            .build();
+
+    // Bumped on every revocation; a version loaded across a bump may be stale and is not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public TokenVersionService(UsersRepository usersRepository) {
+        this.usersRepository = usersRepository;
+    }
+
+    public boolean isCurrent(int userId, int tokenVersion) {
+        Integer current = versions.getIfPresent(userId);
+        if (current == null) {
+            long before = generation.get();
+            current = usersRepository.findTokenVersion(userId).orElse(MISSING);
+            if (generation.get() == before) {
+                versions.put(userId, current);
+                if (generation.get() != before) {
+                    versions.invalidate(userId);
+                }
+            }
+        }
+        return current != MISSING && current == tokenVersion;
+    }
+
+    /**
+     * Invalidate every token issued to the user so far. The cached version is dropped once the bump
+     * commits; dropping it earlier would let a concurrent check reload and cache the old version.
+     */
+    @Transactional
+    public void revokeAll(int userId) {
+        usersRepository.incrementTokenVersion(userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                forget(userId);
+            }
+        });
+    }
+
+    private void forget(int userId) {
+        generation.incrementAndGet();
+        versions.invalidate(userId);
+    }
+}
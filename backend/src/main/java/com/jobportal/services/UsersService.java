@@ -7,7 +7,6 @@ import com.jobportal.repository.JobSeekerProfileRepository;
 import com.jobportal.repository.RecruiterProfileRepository;
 import com.jobportal.repository.UsersRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,13 +24,15 @@ public class UsersService {
     private final JobSeekerProfileRepository jobSeekerProfileRepository;
     private final RecruiterProfileRepository recruiterProfileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CurrentUserContext currentUserContext;
 
     @Autowired
-    public UsersService(UsersRepository usersRepository, JobSeekerProfileRepository jobSeekerProfileRepository, RecruiterProfileRepository recruiterProfileRepository, PasswordEncoder passwordEncoder) {
+    public UsersService(UsersRepository usersRepository, JobSeekerProfileRepository jobSeekerProfileRepository, RecruiterProfileRepository recruiterProfileRepository, PasswordEncoder passwordEncoder, CurrentUserContext currentUserContext) {
         this.usersRepository = usersRepository;
         this.jobSeekerProfileRepository = jobSeekerProfileRepository;
         this.recruiterProfileRepository = recruiterProfileRepository;
         this.passwordEncoder = passwordEncoder;
+        this.currentUserContext = currentUserContext;
     }
 
     public Users addNew(Users users) {
@@ -66,20 +67,22 @@ public class UsersService {
         return usersRepository.save(user);
     }
 
+    // User and profile come from the request's CurrentUserContext, so repeated calls cost no queries
     public Object getCurrentUserProfile() {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CurrentUserContext.CurrentUser current = currentUserContext.get();
 
-        if (!(authentication instanceof AnonymousAuthenticationToken)) {
-            String username = authentication.getName();
-            Users users = usersRepository.findByEmail(username).orElseThrow(()-> new UsernameNotFoundException("Could not found " + "user"));
-            int userId = users.getUserId();
+        if (current != null) {
+            if (current.getUser() == null) {
+                throw new UsernameNotFoundException("Could not found " + "user");
+            }
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             if (authentication.getAuthorities().contains(new SimpleGrantedAuthority("Recruiter"))) {
-                RecruiterProfile recruiterProfile = recruiterProfileRepository.findById(userId).orElse(new RecruiterProfile());
-                return recruiterProfile;
+                RecruiterProfile recruiterProfile = current.getRecruiterProfile();
+                return recruiterProfile != null ? recruiterProfile : new RecruiterProfile();
             } else {
-                JobSeekerProfile jobSeekerProfile = jobSeekerProfileRepository.findById(userId).orElse(new JobSeekerProfile());
-                return jobSeekerProfile;
+                JobSeekerProfile jobSeekerProfile = current.getJobSeekerProfile();
+                return jobSeekerProfile != null ? jobSeekerProfile : new JobSeekerProfile();
             }
         }
 
@@ -88,11 +91,12 @@ public class UsersService {
 
     public Users getCurrentUser() {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (!(authentication instanceof AnonymousAuthenticationToken)) {
-            String username = authentication.getName();
-            Users user = usersRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException("Could not found " + "user"));
-            return user;
+        CurrentUserContext.CurrentUser current = currentUserContext.get();
+        if (current != null) {
+            if (current.getUser() == null) {
+                throw new UsernameNotFoundException("Could not found " + "user");
+            }
+            return current.getUser();
         }
 
         return null;
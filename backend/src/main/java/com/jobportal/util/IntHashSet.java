@@ -0,0 +1,153 @@
+package com.jobportal.util;
+
+/**
+ * Set of primitive ints using open addressing with linear probing. Holds each value in a plain
+ * {@code int[]} slot (about 8 bytes per value at the maximum load factor of one half), where a
+ * {@code HashSet<Integer>} costs a boxed Integer plus a map node per value.
+ *
+ * Not thread-safe; share instances only when no one modifies them.
+ */
+public final class IntHashSet {
+
+    // Marks an unused slot; the value 0 itself is tracked by a separate flag
+    private static final int EMPTY = 0;
+
+    private int[] slots;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    public IntHashSet() {
+        this(8);
+    }
+
+    public IntHashSet(int expectedSize) {
+        int capacity = 4;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        slots = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public static IntHashSet of(Iterable<Integer> values) {
+        IntHashSet set = new IntHashSet();
+        for (Integer value : values) {
+            if (value != null) {
+                set.add(value);
+            }
+        }
+        return set;
+    }
+
+    public IntHashSet copy() {
+        IntHashSet copy = new IntHashSet(0);
+        copy.slots = slots.clone();
+        copy.mask = mask;
+        copy.size = size;
+        copy.containsZero = containsZero;
+        return copy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        for (int i = slot(value); slots[i] != EMPTY; i = (i + 1) & mask) {
+            if (slots[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the value was added, i.e. was not already present
+     */
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int i = slot(value);
+        while (slots[i] != EMPTY) {
+            if (slots[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = value;
+        size++;
+        if (size * 2 > slots.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the value was present
+     */
+    public boolean remove(int value) {
+        if (value == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int i = slot(value);
+        while (slots[i] != value) {
+            if (slots[i] == EMPTY) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = EMPTY;
+        size--;
+        // Shift later members of the probe run back so lookups don't stop at the new gap
+        for (int j = (i + 1) & mask; slots[j] != EMPTY; j = (j + 1) & mask) {
+            int home = slot(slots[j]);
+            boolean reachable = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!reachable) {
+                slots[i] = slots[j];
+                slots[j] = EMPTY;
+                i = j;
+            }
+        }
+        return true;
+    }
+
+    private void grow() {
+        int[] old = slots;
+        slots = new int[old.length * 2];
+        mask = slots.length - 1;
+        for (int value : old) {
+            if (value != EMPTY) {
+                int i = slot(value);
+                while (slots[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                slots[i] = value;
+            }
+        }
+    }
+
+    private int slot(int value) {
+        // Fibonacci hashing spreads sequential IDs across the table
+        int hash = value * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobportal.util;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Principal rebuilt from a verified JWT's claims, so an authenticated request needs no user lookup.
+ * Carries no password; it only ever stands for a token that has already been checked.
+ */
+public class JwtUserDetails implements UserDetails {
+
+    private final int userId;
+    private final String username;
+    private final String userType;
+    private final List<SimpleGrantedAuthority> authorities;
+
+    public JwtUserDetails(int userId, String username, String userType) {
+        this.userId = userId;
+        this.username = username;
+        this.userType = userType;
+        this.authorities = List.of(new SimpleGrantedAuthority(userType));
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getUserType() {
+        return userType;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobportal.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+/**
+ * Writes an {@code ApiResponse}-shaped JSON body item by item, so a listing never has to be held
+ * in memory as a whole. The envelope matches {@link com.jobportal.dto.ApiResponse}:
+ * {@code {"success":true,"message":...,"data":[...],"timestamp":...}}.
+ *
+ * Once the first byte is sent the status can no longer change; a failure mid-stream aborts the
+ * response and leaves the JSON truncated, which clients treat as an error.
+ */
+public final class StreamingJsonResponse {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // Flush regularly so the first jobs reach the client while later ones are still being loaded
+    private static final int FLUSH_EVERY = 50;
+
+    private StreamingJsonResponse() {
+    }
+
+    /**
+     * @param producer called with a sink; it should pass every item to the sink in order
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> ok(ObjectMapper objectMapper, String message,
+                                                               Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeStringField("message", message);
+                generator.writeArrayFieldStart("data");
+                int[] written = {0};
+                producer.accept(item -> {
+                    try {
+                        generator.writeObject(item);
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeStringField("timestamp", LocalDateTime.now().format(TIMESTAMP_FORMAT));
+                generator.writeEndObject();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
@@ -0,0 +1,154 @@
+package com.jobportal.api;
+
+import com.jobportal.config.JwtTokenProvider;
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.entity.JobSeekerApply;
+import com.jobportal.entity.JobSeekerProfile;
+import com.jobportal.entity.JobSeekerSave;
+import com.jobportal.entity.Users;
+import com.jobportal.entity.UsersType;
+import com.jobportal.repository.JobPostActivityRepository;
+import com.jobportal.repository.JobSeekerApplyRepository;
+import com.jobportal.repository.JobSeekerProfileRepository;
+import com.jobportal.repository.JobSeekerSaveRepository;
+import com.jobportal.repository.UsersRepository;
+import com.jobportal.repository.UsersTypeRepository;
+import com.jobportal.search.JobSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The public job listings, on H2: anonymous requests get plain rows, and a job seeker's optional bearer
+ * token adds their applied/saved flags.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jobs-rest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=H2",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class JobsRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UsersTypeRepository usersTypeRepository;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private JobSeekerProfileRepository jobSeekerProfileRepository;
+
+    @Autowired
+    private JobPostActivityRepository jobPostActivityRepository;
+
+    @Autowired
+    private JobSeekerApplyRepository jobSeekerApplyRepository;
+
+    @Autowired
+    private JobSeekerSaveRepository jobSeekerSaveRepository;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    private Users seekerUser;
+
+    @BeforeEach
+    void setUp() {
+        jobSeekerApplyRepository.deleteAll();
+        jobSeekerSaveRepository.deleteAll();
+        jobPostActivityRepository.deleteAll();
+        jobSeekerProfileRepository.deleteAll();
+        usersRepository.deleteAll();
+        usersTypeRepository.deleteAll();
+
+        UsersType seekerType = new UsersType();
+        seekerType.setUserTypeName("Job Seeker");
+        seekerType = usersTypeRepository.save(seekerType);
+
+        Users user = new Users();
+        user.setEmail("seeker@example.com");
+        user.setPassword("unused");
+        user.setFirstName("Test");
+        user.setLastName("Seeker");
+        user.setActive(true);
+        user.setRegistrationDate(new Date());
+        user.setUserTypeId(seekerType);
+        seekerUser = usersRepository.save(user);
+        JobSeekerProfile seeker = jobSeekerProfileRepository.save(new JobSeekerProfile(seekerUser));
+
+        // Newest first: the applied job is listed before the saved one
+        JobPostActivity appliedJob = job("Java Developer", 2_000);
+        JobPostActivity savedJob = job("Data Analyst", 1_000);
+
+        JobSeekerApply apply = new JobSeekerApply();
+        apply.setUserId(seeker);
+        apply.setJob(appliedJob);
+        apply.setApplyDate(new Date());
+        jobSeekerApplyRepository.save(apply);
+
+        JobSeekerSave save = new JobSeekerSave();
+        save.setUserId(seeker);
+        save.setJob(savedJob);
+        jobSeekerSaveRepository.save(save);
+
+        // The rows were written behind the service's back; reload the index (which also clears cached pages)
+        jobSearchIndex.rebuild();
+    }
+
+    @Test
+    void seekerTokenAddsAppliedAndSavedFlagsToTheListing() throws Exception {
+        String token = tokenProvider.generateToken(seekerUser.getEmail(), "Job Seeker",
+                (long) seekerUser.getUserId(), seekerUser.getTokenVersion());
+
+        mockMvc.perform(get("/api/jobs").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].jobTitle").value("Java Developer"))
+                .andExpect(jsonPath("$.data[0].applied").value(true))
+                .andExpect(jsonPath("$.data[0].saved").value(false))
+                .andExpect(jsonPath("$.data[1].jobTitle").value("Data Analyst"))
+                .andExpect(jsonPath("$.data[1].applied").value(false))
+                .andExpect(jsonPath("$.data[1].saved").value(true));
+    }
+
+    @Test
+    void anonymousAndInvalidTokenRequestsGetPlainListings() throws Exception {
+        mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].applied").doesNotExist());
+
+        mockMvc.perform(get("/api/jobs/search").param("job", "java").header("Authorization", "Bearer not-a-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].jobTitle").value("Java Developer"))
+                .andExpect(jsonPath("$.data[0].applied").doesNotExist());
+    }
+
+    private JobPostActivity job(String title, long ageMs) {
+        JobPostActivity job = new JobPostActivity();
+        job.setJobTitle(title);
+        job.setJobType("Full-Time");
+        job.setRemote("Remote-Only");
+        job.setPostedDate(new Date(System.currentTimeMillis() - ageMs));
+        return jobPostActivityRepository.save(job);
+    }
+}
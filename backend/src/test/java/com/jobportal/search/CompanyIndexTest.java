@@ -0,0 +1,81 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.JobCompany;
+import com.jobportal.repository.JobCompanyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompanyIndexTest {
+
+    private CompanyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        JobCompanyRepository repository = mock(JobCompanyRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                new JobCompany(1, "ACME, Inc.", null, null),
+                new JobCompany(2, "Northwind Traders", null, null),
+                new JobCompany(3, "Vertex Solutions", null, null),
+                new JobCompany(4, "Acme Corporation Ltd", null, null)));
+        index = new CompanyIndex(repository);
+        index.rebuild();
+    }
+
+    @Test
+    void legalSuffixesCaseAndPunctuationDoNotMakeANewCompany() {
+        assertDuplicateOf(1, "Acme");
+        assertDuplicateOf(1, "acme llc");
+        assertDuplicateOf(1, "ACME Pvt. Ltd.");
+        // Only trailing suffixes are dropped, and never the whole name
+        assertFalse(index.findDuplicate("Co").isPresent());
+        assertFalse(index.findDuplicate("Acme Co Builders").isPresent());
+    }
+
+    @Test
+    void likelyMisspellingIsADuplicate() {
+        // Dice over canonical trigrams: 32/35 = 0.91
+        assertDuplicateOf(2, "Northwind Trader");
+        assertDuplicateOf(2, "Northwind Traders GmbH");
+    }
+
+    @Test
+    void similarButDifferentNameIsNotADuplicate() {
+        // 28/34 = 0.82, just under the 0.85 threshold
+        assertFalse(index.findDuplicate("Vortex Solutions").isPresent());
+        assertFalse(index.findDuplicate("Northwind Logistics").isPresent());
+        assertFalse(index.findDuplicate("").isPresent());
+    }
+
+    @Test
+    void companiesIndexedLaterAreFound() {
+        index.index(new JobCompany(5, "Contoso", null, null));
+
+        assertDuplicateOf(5, "Contoso Limited");
+    }
+
+    @Test
+    void searchRanksPrefixMatchesFirstAndToleratesTypos() {
+        List<JobCompany> prefix = index.search("acm", 10);
+        assertEquals(2, prefix.size());
+        assertTrue(prefix.stream().allMatch(company -> company.getName().toLowerCase().startsWith("acme")));
+
+        List<JobCompany> typo = index.search("northwnd", 10);
+        assertFalse(typo.isEmpty());
+        assertEquals(2, typo.get(0).getId());
+    }
+
+    private void assertDuplicateOf(int id, String name) {
+        Optional<JobCompany> duplicate = index.findDuplicate(name);
+        assertTrue(duplicate.isPresent(), name + " was not matched");
+        assertEquals(id, duplicate.get().getId());
+    }
+}
@@ -0,0 +1,106 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.JobResponse;
+import com.jobportal.dto.PageInfo;
+import com.jobportal.entity.JobPostActivity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JobSearchCacheTest {
+
+    private static final JobSearchQuery JAVA = new JobSearchQuery("java", null, null, null, null);
+    private static final JobSearchQuery PYTHON = new JobSearchQuery("python", null, null, null, null);
+
+    private JobSearchCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobSearchCache();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void equivalentQueriesShareAnEntry() {
+        CachedJobPage first = get(JAVA, 1);
+        CachedJobPage second = get(new JobSearchQuery("  JAVA ", null, null, null, null), 1);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void pageComputedAcrossAnInvalidationIsNotStored() {
+        JobPostActivity saved = job(7, "Java Developer");
+        // The job is saved while the page is being computed, so the page may predate it
+        CachedJobPage stale = cache.get(JAVA, false, false, null, 10, () -> {
+            loads.incrementAndGet();
+            cache.invalidate(7, null, IndexedJob.from(saved));
+            return page(1);
+        });
+
+        CachedJobPage next = get(JAVA, 7);
+
+        assertEquals(2, loads.get());
+        assertEquals(7, next.getJobs().get(0).getJobPostId());
+        assertSame(next, get(JAVA, 8));
+        assertEquals(1, stale.getJobs().get(0).getJobPostId());
+    }
+
+    @Test
+    void invalidationDropsOnlyAffectedEntries() {
+        CachedJobPage java = get(JAVA, 1);
+        CachedJobPage python = get(PYTHON, 2);
+        CachedJobPage showingJob = get(new JobSearchQuery("developer", null, null, null, null), 3);
+
+        // A new Java job: matches the Java query's text, and job 3 is on the "developer" page
+        cache.invalidate(3, null, IndexedJob.from(job(3, "Java Engineer")));
+
+        assertEquals(3, loads.get());
+        assertSame(python, get(PYTHON, 2));
+        assertEquals(3, loads.get());
+        get(JAVA, 1);
+        get(new JobSearchQuery("developer", null, null, null, null), 3);
+        assertEquals(5, loads.get());
+        assertEquals(1, java.getJobs().get(0).getJobPostId());
+        assertEquals(3, showingJob.getJobs().get(0).getJobPostId());
+    }
+
+    @Test
+    void invalidateAllDropsEverything() {
+        get(JAVA, 1);
+        cache.invalidateAll();
+        get(JAVA, 1);
+
+        assertEquals(2, loads.get());
+    }
+
+    private CachedJobPage get(JobSearchQuery query, int jobPostId) {
+        return cache.get(query, false, false, null, 10, () -> {
+            loads.incrementAndGet();
+            return page(jobPostId);
+        });
+    }
+
+    private static CachedJobPage page(int jobPostId) {
+        JobResponse job = new JobResponse();
+        job.setJobPostId(jobPostId);
+        return new CachedJobPage(List.of(job), new PageInfo(null, 10, 1), Map.of());
+    }
+
+    private static JobPostActivity job(int jobPostId, String title) {
+        JobPostActivity job = new JobPostActivity();
+        job.setJobPostId(jobPostId);
+        job.setJobTitle(title);
+        job.setPostedDate(new Date());
+        return job;
+    }
+}
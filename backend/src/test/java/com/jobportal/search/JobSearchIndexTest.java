@@ -0,0 +1,101 @@
+package com.jobportal.search;
+
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.repository.JobPostActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSearchIndexTest {
+
+    private static final int JOBS = 60;
+    private static final int PAGE_SIZE = 7;
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex(mock(JobPostActivityRepository.class), new JobSearchCache());
+        index.rebuild();
+        long now = System.currentTimeMillis();
+        for (int id = 1; id <= JOBS; id++) {
+            JobPostActivity job = new JobPostActivity();
+            job.setJobPostId(id);
+            job.setJobTitle(id % 3 == 0 ? "Senior Java Developer" : "Java Developer");
+            job.setDescriptionOfJob("Build services in Java. ".repeat(1 + id % 4) + "Work with the team.");
+            job.setJobType("Full-Time");
+            job.setRemote("Remote-Only");
+            // Spread over two months, with a few identical postings to exercise the jobPostId tie-break
+            job.setPostedDate(new Date(now - TimeUnit.HOURS.toMillis(id < 50 ? id * 29L : 50 * 29L)));
+            index.index(job);
+        }
+    }
+
+    @Test
+    void pagingThroughRankedResultsReturnsEveryJobOnce() throws InterruptedException {
+        JobSearchQuery query = new JobSearchQuery("java developer", null, null, null, null);
+        List<Integer> seen = new ArrayList<>();
+        RankCursor cursor = null;
+        int pages = 0;
+        do {
+            JobSearchPage page = index.rankPage(query, cursor, PAGE_SIZE);
+            assertEquals(JOBS, page.getTotal());
+            seen.addAll(page.getJobPostIds());
+            cursor = RankCursor.decode(page.getNextCursor());
+            pages++;
+            // Let the clock move on, so later pages would score differently if recency used the current time
+            Thread.sleep(5);
+        } while (cursor != null);
+
+        assertEquals((JOBS + PAGE_SIZE - 1) / PAGE_SIZE, pages);
+        Set<Integer> distinct = new HashSet<>(seen);
+        assertEquals(seen.size(), distinct.size(), "a job was returned on more than one page");
+        assertEquals(JOBS, distinct.size(), "a job was skipped between pages");
+        for (int id = 1; id <= JOBS; id++) {
+            assertTrue(distinct.contains(id));
+        }
+    }
+
+    @Test
+    void changesMadeWhileRebuildingSurviveTheRebuild() {
+        JobPostActivityRepository repository = mock(JobPostActivityRepository.class);
+        JobSearchIndex rebuilding = new JobSearchIndex(repository, new JobSearchCache());
+        JobPostActivity added = new JobPostActivity();
+        added.setJobPostId(500);
+        added.setJobTitle("Kotlin Developer");
+        added.setPostedDate(new Date());
+        // The job is saved after the snapshot was read but before the rebuilt index is swapped in
+        when(repository.findAllSearchDocuments()).thenAnswer(invocation -> {
+            rebuilding.index(added);
+            return List.of();
+        });
+
+        rebuilding.rebuild();
+
+        JobSearchQuery query = new JobSearchQuery("kotlin", null, null, null, null);
+        assertEquals(List.of(500), rebuilding.search(query));
+    }
+
+    @Test
+    void cursorRoundTripsItsScoringTime() {
+        RankCursor cursor = new RankCursor(1_700_000_000_123L, 4.25, 42);
+
+        RankCursor decoded = RankCursor.decode(cursor.encode());
+
+        assertEquals(1_700_000_000_123L, decoded.getScoredAt());
+        assertTrue(decoded.precedes(4.25, 41));
+        assertFalse(decoded.precedes(4.25, 42));
+    }
+}
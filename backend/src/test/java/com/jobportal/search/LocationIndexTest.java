@@ -0,0 +1,98 @@
+package com.jobportal.search;
+
+import com.jobportal.dto.LocationSuggestionDto;
+import com.jobportal.entity.JobLocation;
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.repository.JobLocationRepository;
+import com.jobportal.repository.JobPostActivityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocationIndexTest {
+
+    private static final JobLocation NEW_YORK = new JobLocation(1, "New York", "New York", "United States");
+    private static final JobLocation YORK = new JobLocation(2, "York", "North Yorkshire", "United Kingdom");
+    private static final JobLocation SAO_PAULO = new JobLocation(3, "São Paulo", "São Paulo", "Brazil");
+
+    private LocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        JobLocationRepository locations = mock(JobLocationRepository.class);
+        JobPostActivityRepository jobs = mock(JobPostActivityRepository.class);
+        when(locations.findAll()).thenReturn(List.of(NEW_YORK, YORK, SAO_PAULO));
+        when(jobs.findAllSearchDocuments()).thenReturn(List.of());
+        index = new LocationIndex(locations, jobs);
+        index.rebuild();
+    }
+
+    @Test
+    void matchesWordPrefixesWithoutAccents() {
+        List<LocationSuggestionDto> sao = index.search("sao", null, null, 10);
+        assertEquals(1, sao.size());
+        assertEquals(3, sao.get(0).getId());
+
+        List<LocationSuggestionDto> york = index.search("york", null, null, 10);
+        assertEquals(2, york.size());
+
+        assertTrue(index.search("yorkshire", null, null, 10).isEmpty());
+        assertEquals(1, index.search("york", "north", null, 10).size());
+    }
+
+    @Test
+    void ranksByJobCountAndFollowsMovesAndDeletes() {
+        postJob(10, YORK);
+        postJob(11, YORK);
+        postJob(12, NEW_YORK);
+
+        List<LocationSuggestionDto> ranked = index.search("york", null, null, 10);
+        assertEquals(2, ranked.get(0).getId());
+        assertEquals(2, ranked.get(0).getJobCount());
+        assertEquals(1, ranked.get(1).getJobCount());
+
+        // Job 10 moves to New York and job 11 is deleted
+        postJob(10, NEW_YORK);
+        index.removeJob(11);
+
+        ranked = index.search("york", null, null, 10);
+        assertEquals(1, ranked.get(0).getId());
+        assertEquals(2, ranked.get(0).getJobCount());
+        assertEquals(0, ranked.get(1).getJobCount());
+    }
+
+    @Test
+    void limitKeepsTheBusiestLocations() {
+        postJob(10, SAO_PAULO);
+        postJob(11, SAO_PAULO);
+        postJob(12, YORK);
+
+        List<LocationSuggestionDto> top = index.search(null, null, null, 2);
+
+        assertEquals(2, top.size());
+        assertEquals(3, top.get(0).getId());
+        assertEquals(2, top.get(1).getId());
+    }
+
+    @Test
+    void locationsCreatedLaterAreSearchable() {
+        index.index(new JobLocation(4, "Newcastle", "Tyne and Wear", "United Kingdom"));
+
+        List<LocationSuggestionDto> found = index.search("new", null, null, 10);
+
+        assertEquals(2, found.size());
+    }
+
+    private void postJob(int jobPostId, JobLocation location) {
+        JobPostActivity job = new JobPostActivity();
+        job.setJobPostId(jobPostId);
+        job.setJobLocationId(location);
+        index.indexJob(job);
+    }
+}
@@ -0,0 +1,171 @@
+package com.jobportal.services;
+
+import com.jobportal.dto.JobResponse;
+import com.jobportal.entity.JobPostActivity;
+import com.jobportal.entity.JobSeekerApply;
+import com.jobportal.entity.JobSeekerProfile;
+import com.jobportal.entity.JobSeekerSave;
+import com.jobportal.entity.Users;
+import com.jobportal.entity.UsersType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the dashboard's applied/saved annotation against H2 and counts the SQL statements it issues.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=H2",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Import({JobStatusService.class, JobStatusCache.class})
+class JobStatusServiceTest {
+
+    private static final int JOBS = 500;
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobStatusService jobStatusService;
+
+    private UsersType seekerType;
+    private List<JobPostActivity> jobs;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        seekerType = new UsersType();
+        seekerType.setUserTypeName("Job Seeker");
+        entityManager.persist(seekerType);
+        jobs = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            JobPostActivity job = new JobPostActivity();
+            job.setJobTitle("Java Developer " + i);
+            job.setPostedDate(new Date());
+            entityManager.persist(job);
+            jobs.add(job);
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void annotatingAPageIssuesTheSameStatementsWhateverTheSeekerHasDone() {
+        long none = statementsToAnnotate(seeker("none@example.com", 0));
+        long some = statementsToAnnotate(seeker("some@example.com", 10));
+        long many = statementsToAnnotate(seeker("many@example.com", JOBS));
+
+        // One ID-only query per table, however many rows it returns
+        assertEquals(2, none);
+        assertEquals(none, some);
+        assertEquals(none, many);
+    }
+
+    @Test
+    void annotatingSetsAppliedAndSavedFlags() {
+        JobSeekerProfile seeker = seeker("flags@example.com", 10);
+        List<JobPostActivity> page = page();
+
+        jobStatusService.annotate(seeker, page);
+
+        // seeker() applies to every even job and saves every job among the first `count`
+        assertTrue(page.get(0).getIsActive());
+        assertTrue(page.get(0).getIsSaved());
+        assertFalse(page.get(1).getIsActive());
+        assertTrue(page.get(1).getIsSaved());
+        assertFalse(page.get(10).getIsActive());
+        assertFalse(page.get(10).getIsSaved());
+    }
+
+    @Test
+    void annotatedResponsesAreCopies() {
+        JobSeekerProfile seeker = seeker("copies@example.com", 1);
+        JobResponse shared = new JobResponse();
+        shared.setJobPostId(jobs.get(0).getJobPostId());
+
+        List<JobResponse> annotated = jobStatusService.annotateResponses(seeker, List.of(shared));
+
+        assertEquals(1, annotated.size());
+        assertTrue(annotated.get(0).getApplied());
+        assertTrue(annotated.get(0).getSaved());
+        assertNull(shared.getApplied());
+        assertNull(shared.getSaved());
+    }
+
+    /**
+     * Prepared statements issued while annotating the first page of jobs for a seeker not yet cached
+     */
+    private long statementsToAnnotate(JobSeekerProfile seeker) {
+        List<JobPostActivity> page = page();
+        statistics.clear();
+        jobStatusService.annotate(seeker, page);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * First page of jobs, detached so setting the applied/saved flags on them cannot trigger a flush
+     */
+    private List<JobPostActivity> page() {
+        List<JobPostActivity> page = entityManager
+                .createQuery("SELECT j FROM JobPostActivity j ORDER BY j.jobPostId", JobPostActivity.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        entityManager.clear();
+        return page;
+    }
+
+    /**
+     * A seeker who has saved the first {@code count} jobs and applied to the even-indexed ones among them
+     */
+    private JobSeekerProfile seeker(String email, int count) {
+        Users user = new Users();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setFirstName("Test");
+        user.setLastName("Seeker");
+        user.setActive(true);
+        user.setRegistrationDate(new Date());
+        user.setUserTypeId(entityManager.merge(seekerType));
+        entityManager.persist(user);
+        JobSeekerProfile seeker = new JobSeekerProfile(user);
+        entityManager.persist(seeker);
+        for (int i = 0; i < count; i++) {
+            JobPostActivity job = entityManager.find(JobPostActivity.class, jobs.get(i).getJobPostId());
+            JobSeekerSave save = new JobSeekerSave();
+            save.setUserId(seeker);
+            save.setJob(job);
+            entityManager.persist(save);
+            if (i % 2 == 0) {
+                JobSeekerApply apply = new JobSeekerApply();
+                apply.setUserId(seeker);
+                apply.setJob(job);
+                apply.setApplyDate(new Date());
+                entityManager.persist(apply);
+            }
+        }
+        entityManager.flush();
+        return seeker;
+    }
+}
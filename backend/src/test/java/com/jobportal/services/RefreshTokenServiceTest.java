@@ -0,0 +1,97 @@
+package com.jobportal.services;
+
+import com.jobportal.config.JwtTokenProvider;
+import com.jobportal.entity.Users;
+import com.jobportal.entity.UsersType;
+import com.jobportal.security.InMemoryRefreshTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    private static final int USER_ID = 42;
+
+    private TokenVersionService tokenVersionService;
+    private RefreshTokenService refreshTokenService;
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "Y2hhbmdlVGhpc0luUHJvZHVjdGlvbkltbWVkaWF0ZWx5Rm9yU2VjdXJpdHlQdXJwb3Nlcw==");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 60_000L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpirationInMs", 600_000L);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+
+        tokenVersionService = mock(TokenVersionService.class);
+        when(tokenVersionService.isCurrent(anyInt(), anyInt())).thenReturn(true);
+        refreshTokenService = new RefreshTokenService(tokenProvider, new InMemoryRefreshTokenStore(), tokenVersionService);
+
+        UsersType seekerType = new UsersType();
+        seekerType.setUserTypeName("Job Seeker");
+        user = new Users();
+        user.setUserId(USER_ID);
+        user.setEmail("seeker@example.com");
+        user.setUserTypeId(seekerType);
+    }
+
+    @Test
+    void refreshRotatesWithinTheFamily() {
+        String first = refreshTokenService.issue(user);
+
+        RefreshTokenService.Tokens second = refreshTokenService.refresh(first);
+        assertNotNull(second);
+        assertEquals(USER_ID, second.getUserId());
+        assertEquals("seeker@example.com", second.getEmail());
+        assertEquals("Job Seeker", second.getUserType());
+
+        assertNotNull(refreshTokenService.refresh(second.getRefreshToken()));
+        verify(tokenVersionService, never()).revokeAll(anyInt());
+    }
+
+    @Test
+    void reusedTokenRevokesTheWholeFamily() {
+        String first = refreshTokenService.issue(user);
+        String other = refreshTokenService.issue(user);
+        RefreshTokenService.Tokens second = refreshTokenService.refresh(first);
+
+        // The copy is presented after the legitimate client already rotated it
+        assertNull(refreshTokenService.refresh(first));
+
+        verify(tokenVersionService).revokeAll(USER_ID);
+        // The next token of that family was never used, yet it is revoked with the rest
+        assertNull(refreshTokenService.refresh(second.getRefreshToken()));
+        // Families are independent; here the mocked version check still passes, so only the family matters
+        assertNotNull(refreshTokenService.refresh(other));
+    }
+
+    @Test
+    void loggedOutFamilyCannotRefresh() {
+        String first = refreshTokenService.issue(user);
+        RefreshTokenService.Tokens second = refreshTokenService.refresh(first);
+
+        refreshTokenService.revoke(first);
+
+        assertNull(refreshTokenService.refresh(second.getRefreshToken()));
+        verify(tokenVersionService, never()).revokeAll(anyInt());
+    }
+
+    @Test
+    void accessTokenIsNotARefreshToken() {
+        RefreshTokenService.Tokens tokens = refreshTokenService.refresh(refreshTokenService.issue(user));
+
+        assertNull(refreshTokenService.refresh(tokens.getAccessToken()));
+        assertNull(refreshTokenService.refresh("not-a-token"));
+    }
+}
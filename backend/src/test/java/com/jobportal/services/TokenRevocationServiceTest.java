@@ -0,0 +1,172 @@
+package com.jobportal.services;
+
+import com.jobportal.security.RevokedTokenStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the revoked token filter's rebuild by hand, revoking tokens while it runs.
+ */
+class TokenRevocationServiceTest {
+
+    private StubRevokedTokenStore store;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new StubRevokedTokenStore();
+        // Not started, so the only rebuilds are the ones the tests run
+        service = new TokenRevocationService(store, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void revokedTokenIsRevoked() {
+        service.revoke(claims("revoked"));
+
+        assertTrue(service.isRevoked("revoked"));
+        assertFalse(service.isRevoked("not-revoked"));
+    }
+
+    @Test
+    void rebuildKeepsRevocationsMadeBeforeIt() {
+        service.revoke(claims("before"));
+
+        service.rebuildFilter();
+
+        assertTrue(service.isRevoked("before"));
+    }
+
+    @Test
+    void revocationDuringRebuildSurvivesTheSwap() throws Exception {
+        service.revoke(claims("before"));
+        CountDownLatch iterating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // The rebuild walks a snapshot taken before "during" is revoked, so only the live add can cover it
+        store.pauseNextIteration(iterating, release);
+
+        Thread rebuild = new Thread(service::rebuildFilter);
+        rebuild.start();
+        assertTrue(iterating.await(5, TimeUnit.SECONDS));
+        service.revoke(claims("during"));
+        release.countDown();
+        rebuild.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertFalse(rebuild.isAlive());
+        assertTrue(service.isRevoked("before"));
+        assertTrue(service.isRevoked("during"));
+    }
+
+    @Test
+    void noRevocationIsLostToConcurrentRebuilds() throws Exception {
+        int threads = 4;
+        int perThread = 2_000;
+        AtomicBoolean revoking = new AtomicBoolean(true);
+        Thread rebuilds = new Thread(() -> {
+            while (revoking.get()) {
+                service.rebuildFilter();
+            }
+        });
+        rebuilds.start();
+
+        List<Thread> revokers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Thread revoker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    service.revoke(claims(thread + "-" + i));
+                }
+            });
+            revokers.add(revoker);
+            revoker.start();
+        }
+        for (Thread revoker : revokers) {
+            revoker.join();
+        }
+        revoking.set(false);
+        rebuilds.join();
+
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < perThread; i++) {
+                assertTrue(service.isRevoked(t + "-" + i), "lost revocation " + t + "-" + i);
+            }
+        }
+    }
+
+    private static Claims claims(String tokenId) {
+        return Jwts.claims()
+                .id(tokenId)
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10)))
+                .build();
+    }
+
+    /**
+     * In-memory store whose next {@link #forEachRevoked} can be held part way through
+     */
+    private static class StubRevokedTokenStore implements RevokedTokenStore {
+
+        private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+        private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch iterating;
+        private volatile CountDownLatch release;
+
+        void pauseNextIteration(CountDownLatch iterating, CountDownLatch release) {
+            this.iterating = iterating;
+            this.release = release;
+        }
+
+        @Override
+        public void revoke(String tokenId, Duration ttl) {
+            revoked.add(tokenId);
+            listeners.forEach(listener -> listener.accept(tokenId));
+        }
+
+        @Override
+        public boolean isRevoked(String tokenId) {
+            return revoked.contains(tokenId);
+        }
+
+        @Override
+        public void forEachRevoked(Consumer<String> action) {
+            List<String> snapshot = new ArrayList<>(revoked);
+            CountDownLatch paused = iterating;
+            if (paused != null) {
+                iterating = null;
+                paused.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            snapshot.forEach(action);
+        }
+
+        @Override
+        public void subscribe(Consumer<String> listener) {
+            listeners.add(listener);
+        }
+    }
+}
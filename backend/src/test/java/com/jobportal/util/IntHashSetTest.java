@@ -0,0 +1,85 @@
+package com.jobportal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntHashSetTest {
+
+    @Test
+    void zeroAndNegativeValuesAreOrdinaryMembers() {
+        IntHashSet set = new IntHashSet();
+
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(-5));
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-5));
+        assertEquals(2, set.size());
+
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertFalse(set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void removingFromAProbeRunKeepsTheRestReachable() {
+        // Full to the load factor, so most values sit in runs that wrap around a 16-slot table
+        IntHashSet set = new IntHashSet(8);
+        List<Integer> values = new ArrayList<>();
+        for (int value = 1; value <= 8; value++) {
+            set.add(value * 16);
+            values.add(value * 16);
+        }
+        for (Integer removed : values) {
+            IntHashSet copy = set.copy();
+            assertTrue(copy.remove(removed));
+            for (Integer other : values) {
+                assertEquals(!other.equals(removed), copy.contains(other), "after removing " + removed + ": " + other);
+            }
+        }
+    }
+
+    @Test
+    void behavesLikeAHashSetUnderRandomAddsAndRemoves() {
+        Random random = new Random(42);
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        // A small range forces long probe runs, repeated hits and the table growing and refilling
+        for (int i = 0; i < 50_000; i++) {
+            int value = random.nextInt(256) - 16;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (int value = -16; value < 240; value++) {
+            assertEquals(expected.contains(value), set.contains(value), "value " + value);
+        }
+    }
+
+    @Test
+    void copyIsIndependent() {
+        IntHashSet set = IntHashSet.of(List.of(1, 2, 3));
+        IntHashSet copy = set.copy();
+
+        copy.remove(2);
+        copy.add(4);
+
+        assertTrue(set.contains(2));
+        assertFalse(set.contains(4));
+        assertFalse(copy.contains(2));
+        assertTrue(copy.contains(4));
+    }
+}
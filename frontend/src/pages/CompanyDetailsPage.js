@@ -222,7 +222,7 @@ const CompanyDetailsPage = () => {
                                     <div className="job-info">
                                         <h3>{job.jobTitle}</h3>
                                         <div className="job-meta">
-                                            <span className="d-inline-flex align-items-center"><MapPin size={14} className="me-1" /> {job.jobLocationId?.city || 'Location N/A'}</span>
+                                            <span className="d-inline-flex align-items-center"><MapPin size={14} className="me-1" /> {job.jobLocation || 'Location N/A'}</span>
                                             <span className="d-inline-flex align-items-center"><Clock size={14} className="me-1" /> {job.jobType}</span>
                                             {job.salary && <span className="d-inline-flex align-items-center"><Wallet size={14} className="me-1" /> {job.salary}</span>}
                                         </div>
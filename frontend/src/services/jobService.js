@@ -3,12 +3,28 @@ import api from './api';
 // Helper for throttling requests
 const delay = (ms) => new Promise(resolve => setTimeout(resolve, ms));
 
-export const getAllJobs = async () => {
-  try {
-    const response = await api.get('jobs');
+// The listing is cursor-paged; fetch the largest pages the API allows and follow nextCursor
+const PAGE_SIZE = 100;
+
+const fetchAllJobs = async () => {
+  const allJobs = [];
+  let cursor;
+  do {
+    const response = await api.get('jobs', { params: { size: PAGE_SIZE, cursor } });
     // Pro-fix for the "t is not iterable" crash
     const jobs = (response.data?.data || response.data) ?? [];
-    return Array.isArray(jobs) ? jobs : [];
+    if (Array.isArray(jobs)) {
+      allJobs.push(...jobs);
+    }
+    const page = response.data?.page;
+    cursor = page?.hasNext ? page.nextCursor : undefined;
+  } while (cursor);
+  return allJobs;
+};
+
+export const getAllJobs = async () => {
+  try {
+    return await fetchAllJobs();
   } catch (error) {
     console.error('Error fetching jobs:', error);
     throw error;
@@ -28,10 +44,7 @@ export const getJobById = async (id) => {
 export const getAllJobsWithStatus = async () => {
   try {
     // First get all jobs
-    const response = await api.get('jobs');
-    // Pro-fix for the "t is not iterable" crash
-    const jobs = (response.data?.data || response.data) ?? [];
-    const validatedJobs = Array.isArray(jobs) ? jobs : [];
+    const validatedJobs = await fetchAllJobs();
     
     // THRESHOLD: To prevent "Polling Storm" (503), we fetch status sequentially with a small delay
     const jobsWithStatus = [];
@@ -0,0 +1,72 @@
+#!/bin/bash
+# Throughput and p99 of the API on platform threads vs virtual threads
+#
+# Starts the backend jar once per mode against the configured database, drives the same endpoints
+# with `hey` at the same concurrency, and prints one table row per endpoint and mode.
+#
+# Usage: scripts/benchmark-thread-modes.sh [path/to/jobportal.jar]
+# Env:   CONCURRENCY (default 400), DURATION (default 30s), PORT (default 8080), SPRING_PROFILE (default prod),
+#        plus the usual DB_URL / DB_USERNAME / DB_PASSWORD for the database under test
+set -e
+
+JAR=${1:-backend/target/jobportal-1.0.0.jar}
+CONCURRENCY=${CONCURRENCY:-400}
+DURATION=${DURATION:-30s}
+PORT=${PORT:-8080}
+SPRING_PROFILE=${SPRING_PROFILE:-prod}
+BASE_URL="http://localhost:${PORT}"
+
+ENDPOINTS=(
+    "/api/jobs?size=20&summary=true"
+    "/api/jobs/search?keyword=developer&size=20"
+    "/api/jobs/suggest?q=dev"
+    "/api/companies/1"
+)
+
+command -v hey > /dev/null || { echo "❌ hey is required (https://github.com/rakyll/hey)"; exit 1; }
+[ -f "$JAR" ] || { echo "❌ Jar not found: $JAR (run mvn -f backend/pom.xml package first)"; exit 1; }
+
+wait_for_health() {
+    for _ in $(seq 1 60); do
+        if curl -f -s "${BASE_URL}/actuator/health" > /dev/null 2>&1; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo "❌ Backend did not become healthy"
+    return 1
+}
+
+run_mode() {
+    local mode=$1
+    local virtual=$2
+
+    VIRTUAL_THREADS_ENABLED=$virtual SERVER_PORT=$PORT \
+        java -jar "$JAR" --spring.profiles.active="$SPRING_PROFILE" --server.port="$PORT" > "/tmp/benchmark-${mode}.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2> /dev/null" EXIT
+
+    wait_for_health
+
+    for endpoint in "${ENDPOINTS[@]}"; do
+        # Warm up the JIT and caches before measuring
+        hey -z 10s -c 50 "${BASE_URL}${endpoint}" > /dev/null
+        local report
+        report=$(hey -z "$DURATION" -c "$CONCURRENCY" "${BASE_URL}${endpoint}")
+        local rps p99 errors
+        rps=$(echo "$report" | awk '/Requests\/sec/ {print $2}')
+        p99=$(echo "$report" | awk '/99% in/ {print $3 * 1000}')
+        errors=$(echo "$report" | awk '/\[[0-9]+\]/ && !/\[200\]/ {sum += $2} END {print sum + 0}')
+        printf "| %-45s | %-8s | %10s | %9s | %6s |\n" "$endpoint" "$mode" "$rps" "$p99" "$errors"
+    done
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    trap - EXIT
+}
+
+echo "Concurrency ${CONCURRENCY}, ${DURATION} per endpoint"
+printf "| %-45s | %-8s | %10s | %9s | %6s |\n" "Endpoint" "Threads" "Req/s" "p99 (ms)" "Errors"
+printf "|%s|%s|%s|%s|%s|\n" "-----------------------------------------------" "----------" "------------" "-----------" "--------"
+run_mode platform false
+run_mode virtual true